@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.io.File;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks in this package twice, single-threaded and contended with as many threads as there are
+ * processors available, and reports allocation rates through the {@link GCProfiler}. The results are written as JSON
+ * to the directory given as first argument so that they can be compared against the baseline recorded in
+ * {@code src/jmh/resources/baseline}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException {
+
+		File directory = new File(args.length > 0 ? args[0] : "target/benchmarks");
+		directory.mkdirs();
+
+		run(directory, 1, "single-threaded");
+		run(directory, Runtime.getRuntime().availableProcessors(), "contended");
+	}
+
+	private static void run(File directory, int threads, String name) throws RunnerException {
+
+		Options options = new OptionsBuilder() //
+				.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark") //
+				.threads(threads) //
+				.addProfiler(GCProfiler.class) //
+				.resultFormat(ResultFormatType.JSON) //
+				.result(new File(directory, name + ".json").getAbsolutePath()) //
+				.build();
+
+		new Runner(options).run();
+	}
+}
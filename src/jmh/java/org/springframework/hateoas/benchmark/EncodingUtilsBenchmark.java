@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.core.EncodingUtils;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Benchmarks comparing the encoding of path segments and request parameters through {@link UriUtils} and
+ * {@link EncodingUtils} for the kinds of values typically used to build links.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EncodingUtilsBenchmark {
+
+	@Param({ "long", "uuid", "enum", "ascii", "needs-encoding" }) String input;
+
+	Object source;
+
+	@Setup
+	public void setUp() {
+
+		switch (input) {
+			case "long":
+				source = 4711L;
+				break;
+			case "uuid":
+				source = UUID.fromString("1b4e28ba-2fa1-11d2-883f-0016d3cca427");
+				break;
+			case "enum":
+				source = TimeUnit.MILLISECONDS;
+				break;
+			case "ascii":
+				source = "dave-matthews";
+				break;
+			case "needs-encoding":
+				source = "Dave Matthews & Tim Reynolds/Live at Luther College";
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown input " + input + "!");
+		}
+	}
+
+	@Benchmark
+	public String uriUtilsEncodePath() {
+		return UriUtils.encodePath(source.toString(), StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String encodingUtilsEncodePath() {
+		return EncodingUtils.encodePath(source);
+	}
+
+	@Benchmark
+	public String uriUtilsEncodeParameter() {
+		return UriUtils.encodeQueryParam(source.toString(), StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public String encodingUtilsEncodeParameter() {
+		return EncodingUtils.encodeParameter(source);
+	}
+}
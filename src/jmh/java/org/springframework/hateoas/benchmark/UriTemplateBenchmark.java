@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.UriTemplate;
+
+/**
+ * Benchmarks for the expansion of {@link UriTemplate}s and templated {@link Link}s.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class UriTemplateBenchmark {
+
+	private static final String TEMPLATE = "http://localhost:8080/people/{id}/addresses{?page,size}";
+
+	Map<String, Object> parameters = new HashMap<>();
+	UriTemplate template = new UriTemplate(TEMPLATE);
+	Link link = new Link(TEMPLATE);
+
+	public UriTemplateBenchmark() {
+
+		parameters.put("id", 42L);
+		parameters.put("page", 0);
+		parameters.put("size", 20);
+	}
+
+	@Benchmark
+	public URI uriTemplateExpand() {
+		return template.expand(parameters);
+	}
+
+	@Benchmark
+	public URI uriTemplateParseAndExpand() {
+		return new UriTemplate(TEMPLATE).expand(parameters);
+	}
+
+	@Benchmark
+	public Link linkExpand() {
+		return link.expand(parameters);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
+import org.springframework.hateoas.config.reactive.WebClientConfigurer;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for {@link WebClientConfigurer#registerHypermediaTypes(WebClient)}, comparing a configurer created per
+ * {@link WebClient}, which assembles fresh {@link ExchangeStrategies} every time, with a configurer shared by all
+ * {@link WebClient}s and thus sharing its {@link ExchangeStrategies}. Run through {@link BenchmarkRunner} to see the
+ * allocation rates reported by the GC profiler.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class WebClientConfigurerBenchmark {
+
+	HypermediaObjectMappers mappers = HypermediaObjectMappers.of(new ObjectMapper());
+	Collection<HypermediaType> hypermediaTypes = Arrays.asList(HypermediaType.HAL, HypermediaType.HAL_FORMS,
+			HypermediaType.COLLECTION_JSON, HypermediaType.UBER);
+
+	WebClientConfigurer configurer = new WebClientConfigurer(mappers, hypermediaTypes);
+	WebClient webClient = WebClient.create();
+
+	@Benchmark
+	public WebClient freshConfigurerPerClient() {
+		return new WebClientConfigurer(mappers, hypermediaTypes).registerHypermediaTypes(webClient);
+	}
+
+	@Benchmark
+	public WebClient sharedConfigurer() {
+		return configurer.registerHypermediaTypes(webClient);
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import static org.springframework.hateoas.reactive.WebFluxLinkBuilder.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Benchmarks for link creation through {@link org.springframework.hateoas.reactive.WebFluxLinkBuilder}, both
+ * synchronously for a given {@link ServerWebExchange} and through a reactive pipeline.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class WebFluxLinkBuilderBenchmark {
+
+	ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost:8080/people"));
+
+	@Benchmark
+	public Link builderForExchange() {
+		return builderFor(methodOn(PersonController.class).person(42L), exchange).withSelfRel();
+	}
+
+	@Benchmark
+	public Link linkToWithExchange() {
+		return linkTo(methodOn(PersonController.class).person(42L), exchange).withSelfRel().toMono().block();
+	}
+
+	@RequestMapping("/people")
+	static class PersonController {
+
+		@GetMapping("/{id}")
+		HttpEntity<?> person(@PathVariable Long id) {
+			return null;
+		}
+	}
+}
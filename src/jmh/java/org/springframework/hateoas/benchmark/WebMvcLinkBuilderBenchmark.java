@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.benchmark;
+
+import static org.springframework.hateoas.mvc.WebMvcLinkBuilder.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityLinks;
+import org.springframework.hateoas.ExposesResourceFor;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.core.ControllerEntityLinks;
+import org.springframework.hateoas.mvc.WebMvcLinkBuilderFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Benchmarks for link creation in Spring MVC environments, i.e. through
+ * {@link org.springframework.hateoas.mvc.WebMvcLinkBuilder} and {@link ControllerEntityLinks}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class WebMvcLinkBuilderBenchmark {
+
+	EntityLinks entityLinks = new ControllerEntityLinks(Collections.singletonList(PersonController.class),
+			new WebMvcLinkBuilderFactory());
+
+	/**
+	 * Binds a request to the benchmark thread as the link builders pick up the base URI from it.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people");
+		request.setServerName("localhost");
+		request.setServerPort(8080);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public Link methodOnClassController() {
+		return linkTo(methodOn(PersonController.class).person(42L)).withSelfRel();
+	}
+
+	@Benchmark
+	public Link methodOnInterfaceController() {
+		return linkTo(methodOn(AddressController.class).address(42L, 4711L)).withSelfRel();
+	}
+
+	@Benchmark
+	public Link controllerWithParametersAndSlash() {
+		return linkTo(AddressController.class, 42L).slash(4711L).withSelfRel();
+	}
+
+	@Benchmark
+	public Link entityLinksToSingleResource() {
+		return entityLinks.linkToSingleResource(Person.class, 42L);
+	}
+
+	@Benchmark
+	public Link entityLinksToCollectionResource() {
+		return entityLinks.linkToCollectionResource(Person.class);
+	}
+
+	static class Person {}
+
+	@ExposesResourceFor(Person.class)
+	@RequestMapping("/people")
+	static class PersonController {
+
+		@GetMapping("/{id}")
+		HttpEntity<?> person(@PathVariable Long id) {
+			return null;
+		}
+	}
+
+	@RequestMapping("/people/{person}/addresses")
+	interface AddressController {
+
+		@GetMapping("/{id}")
+		HttpEntity<?> address(@PathVariable("person") Long person, @PathVariable("id") Long id);
+	}
+}
@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.plugin.core.Plugin;
+import org.springframework.util.Assert;
 
 /**
  * Accessor to links pointing to controllers backing an entity type. The {@link IllegalArgumentException} potentially
@@ -101,4 +105,33 @@ public interface EntityLinks extends Plugin<Class<?>> {
 	 * @throws IllegalArgumentException in case the type of the given entity is unknown the entity links infrastructure.
 	 */
 	Link linkToSingleResource(Identifiable<?> entity);
+
+	/**
+	 * Creates {@link Link}s pointing to the single resources backing the given entity type and ids. The default
+	 * implementation calls {@link #linkToSingleResource(Class, Object)} for each of the ids. Implementations that can
+	 * resolve the link to the collection resource only once and append the ids to it should override this method as
+	 * that's considerably cheaper.
+	 *
+	 * @param type the entity type to point to, must not be {@literal null}.
+	 * @param ids the identifiers of the entities of the given type, must not be {@literal null} or contain
+	 *          {@literal null} values.
+	 * @return the {@link Link}s pointing to the resources exposed for the entities with the given type and ids in the
+	 *         order of the given ids. Will never be {@literal null}.
+	 * @throws IllegalArgumentException in case the given type is unknown the entity links infrastructure.
+	 */
+	default List<Link> linksToSingleResources(Class<?> type, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Id must not be null!");
+
+			links.add(linkToSingleResource(type, id));
+		}
+
+		return links;
+	}
 }
@@ -15,11 +15,16 @@
  */
 package org.springframework.hateoas;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.Plugin;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 /**
  * Interface to allow discovering links by relation type from some source.
@@ -39,7 +44,16 @@ public interface LinkDiscoverer extends Plugin<MediaType> {
 		return findLinkWithRel(LinkRelation.of(rel), representation);
 	}
 
-	Optional<Link> findLinkWithRel(LinkRelation rel, String representation);
+	/**
+	 * Finds a single link with the given {@link LinkRelation} in the given {@link String} representation.
+	 *
+	 * @param rel must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return the first link with the given relation type found, or {@literal null} if none was found.
+	 */
+	default Optional<Link> findLinkWithRel(LinkRelation rel, String representation) {
+		return findLinksWithRel(rel, representation).stream().findFirst();
+	}
 
 	/**
 	 * Finds a single link with the given relation type in the given {@link InputStream} representation.
@@ -59,7 +73,9 @@ public interface LinkDiscoverer extends Plugin<MediaType> {
 	 * @param representation must not be {@literal null}.
 	 * @return the first link with the given relation type found, or {@literal null} if none was found.
 	 */
-	Optional<Link> findLinkWithRel(LinkRelation rel, InputStream representation);
+	default Optional<Link> findLinkWithRel(LinkRelation rel, InputStream representation) {
+		return findLinksWithRel(rel, representation).stream().findFirst();
+	}
 
 	/**
 	 * Returns all links with the given link relation found in the given {@link String} representation.
@@ -100,4 +116,51 @@ public interface LinkDiscoverer extends Plugin<MediaType> {
 	 * @return will never be {@literal null}.
 	 */
 	Links findLinksWithRel(LinkRelation rel, InputStream representation);
+
+	/**
+	 * Returns all links with any of the given {@link LinkRelation}s found in the given {@link String} representation.
+	 * The links are returned grouped by relation in the order of the given {@link LinkRelation}s. The default
+	 * implementation looks up the links for each relation individually. Implementations are encouraged to override this
+	 * to parse the representation only once, no matter how many relations are requested.
+	 *
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	default Links findLinksWithRels(Collection<LinkRelation> rels, String representation) {
+
+		Assert.notNull(rels, "LinkRelations must not be null!");
+
+		Links links = Links.NONE;
+
+		for (LinkRelation rel : rels) {
+			links = links.and(findLinksWithRel(rel, representation));
+		}
+
+		return links;
+	}
+
+	/**
+	 * Returns all links with any of the given {@link LinkRelation}s found in the given {@link InputStream}
+	 * representation. The links are returned grouped by relation in the order of the given {@link LinkRelation}s. The
+	 * default implementation reads the {@link InputStream} into a {@link String} and delegates to
+	 * {@link #findLinksWithRels(Collection, String)}. Implementations are encouraged to override this to read the
+	 * representation only once, no matter how many relations are requested.
+	 *
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	default Links findLinksWithRels(Collection<LinkRelation> rels, InputStream representation) {
+
+		Assert.notNull(representation, "InputStream must not be null!");
+
+		try {
+			return findLinksWithRels(rels, StreamUtils.copyToString(representation, StandardCharsets.UTF_8));
+		} catch (IOException o_O) {
+			throw new IllegalArgumentException("Could not read representation!", o_O);
+		}
+	}
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.hateoas;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.http.MediaType;
@@ -81,4 +83,38 @@ public class LinkDiscoverers {
 	public LinkDiscoverer getRequiredLinkDiscovererFor(String mediaType) {
 		return getRequiredLinkDiscovererFor(MediaType.valueOf(mediaType));
 	}
+
+	/**
+	 * Returns all links with any of the given {@link LinkRelation}s found in the given {@link String} representation of
+	 * the given {@link MediaType}. The representation is parsed only once if the {@link LinkDiscoverer} for the
+	 * {@link MediaType} supports that.
+	 *
+	 * @param mediaType must not be {@literal null}.
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if no {@link LinkDiscoverer} is registered for the given {@link MediaType}.
+	 * @see LinkDiscoverer#findLinksWithRels(Collection, String)
+	 * @since 1.0
+	 */
+	public Links findLinksWithRels(MediaType mediaType, Collection<LinkRelation> rels, String representation) {
+		return getRequiredLinkDiscovererFor(mediaType).findLinksWithRels(rels, representation);
+	}
+
+	/**
+	 * Returns all links with any of the given {@link LinkRelation}s found in the given {@link InputStream}
+	 * representation of the given {@link MediaType}. The representation is read only once if the {@link LinkDiscoverer}
+	 * for the {@link MediaType} supports that.
+	 *
+	 * @param mediaType must not be {@literal null}.
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IllegalArgumentException if no {@link LinkDiscoverer} is registered for the given {@link MediaType}.
+	 * @see LinkDiscoverer#findLinksWithRels(Collection, InputStream)
+	 * @since 1.0
+	 */
+	public Links findLinksWithRels(MediaType mediaType, Collection<LinkRelation> rels, InputStream representation) {
+		return getRequiredLinkDiscovererFor(mediaType).findLinksWithRels(rels, representation);
+	}
 }
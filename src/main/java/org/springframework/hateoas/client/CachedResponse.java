@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * A response of an intermediate resource of a traversal as stored in a {@link TraversonCache}. Captures the
+ * representation, the validators to revalidate it with ({@code ETag}, {@code Last-Modified}) and the point in time
+ * until which it can be used without revalidation as indicated by the {@code Cache-Control} and {@code Expires}
+ * headers. It also keeps the {@link Link}s already discovered in the representation so that subsequent hops don't
+ * have to run the link discovery again.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public final class CachedResponse {
+
+	private final String body;
+	private final MediaType contentType;
+	private final String eTag;
+	private final long lastModified;
+	private final long expires;
+	private final boolean storable;
+	private final Map<String, Optional<Link>> links;
+
+	private CachedResponse(String body, MediaType contentType, String eTag, long lastModified, long expires,
+			boolean storable, Map<String, Optional<Link>> links) {
+
+		this.body = body;
+		this.contentType = contentType;
+		this.eTag = eTag;
+		this.lastModified = lastModified;
+		this.expires = expires;
+		this.storable = storable;
+		this.links = links;
+	}
+
+	/**
+	 * Creates a {@link CachedResponse} for the given {@link ResponseEntity} received at the given point in time.
+	 *
+	 * @param response must not be {@literal null}.
+	 * @param now the time the response was received at in milliseconds since the epoch.
+	 * @return will never be {@literal null}.
+	 * @see #isCacheable(long)
+	 */
+	static CachedResponse of(ResponseEntity<String> response, long now) {
+
+		Assert.notNull(response, "Response must not be null!");
+
+		HttpHeaders headers = response.getHeaders();
+		boolean storable = response.getStatusCode().is2xxSuccessful() && !hasDirective(headers, "no-store");
+
+		return new CachedResponse(response.getBody(), headers.getContentType(), headers.getETag(),
+				headers.getLastModified(), getExpires(headers, now), storable, new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Returns the representation.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public String getBody() {
+		return body;
+	}
+
+	/**
+	 * Returns the {@link MediaType} of the representation.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public MediaType getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Returns whether the response can be used without revalidating it at the given point in time.
+	 *
+	 * @param now in milliseconds since the epoch.
+	 * @return
+	 */
+	public boolean isFresh(long now) {
+		return now < expires;
+	}
+
+	/**
+	 * Returns whether the response carries a validator ({@code ETag} or {@code Last-Modified}) to issue a conditional
+	 * request with.
+	 *
+	 * @return
+	 */
+	public boolean canBeRevalidated() {
+		return eTag != null || lastModified != -1;
+	}
+
+	/**
+	 * Returns whether the response can be stored in a {@link TraversonCache} and reused later on, i.e. it is a successful
+	 * response not marked as {@code no-store} that is either fresh for some time or can be revalidated.
+	 *
+	 * @param now in milliseconds since the epoch.
+	 * @return
+	 */
+	boolean isCacheable(long now) {
+		return storable && (isFresh(now) || canBeRevalidated());
+	}
+
+	/**
+	 * Adds the conditional request headers to revalidate the current response to the given {@link HttpHeaders}.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @return the given {@link HttpHeaders}.
+	 */
+	HttpHeaders addConditionalHeaders(HttpHeaders headers) {
+
+		if (eTag != null) {
+			headers.setIfNoneMatch(eTag);
+		}
+
+		if (lastModified != -1) {
+			headers.setIfModifiedSince(lastModified);
+		}
+
+		return headers;
+	}
+
+	/**
+	 * Returns a {@link CachedResponse} for the current representation updated with the freshness information of the
+	 * given {@literal 304 Not Modified} response. The {@link Link}s already discovered are retained.
+	 *
+	 * @param notModified must not be {@literal null}.
+	 * @param now the time the response was received at in milliseconds since the epoch.
+	 * @return
+	 */
+	CachedResponse revalidated(ResponseEntity<?> notModified, long now) {
+
+		HttpHeaders headers = notModified.getHeaders();
+
+		String eTag = headers.getETag() != null ? headers.getETag() : this.eTag;
+		long lastModified = headers.getLastModified() != -1 ? headers.getLastModified() : this.lastModified;
+
+		return new CachedResponse(body, contentType, eTag, lastModified, getExpires(headers, now), storable, links);
+	}
+
+	/**
+	 * Returns the {@link Link} for the given key, looking it up using the given {@link Function} only if it hasn't been
+	 * discovered before.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param lookup must not be {@literal null}.
+	 * @return
+	 */
+	Optional<Link> findLink(String key, Function<CachedResponse, Optional<Link>> lookup) {
+		return links.computeIfAbsent(key, __ -> lookup.apply(this));
+	}
+
+	/**
+	 * Calculates the point in time the response expires at based on the {@code Cache-Control} and {@code Expires}
+	 * headers. {@code max-age} takes precedence over {@code Expires}, {@code no-cache} forces revalidation.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @param now in milliseconds since the epoch.
+	 * @return
+	 */
+	private static long getExpires(HttpHeaders headers, long now) {
+
+		if (hasDirective(headers, "no-cache")) {
+			return now;
+		}
+
+		String maxAge = getDirective(headers, "max-age");
+
+		if (maxAge != null) {
+
+			try {
+				return now + Math.max(0, Long.parseLong(maxAge) - getAge(headers)) * 1000;
+			} catch (NumberFormatException o_O) {
+				return now;
+			}
+		}
+
+		long expires = headers.getExpires();
+
+		return expires == -1 ? now : expires;
+	}
+
+	private static long getAge(HttpHeaders headers) {
+
+		String age = headers.getFirst("Age");
+
+		try {
+			return age == null ? 0 : Long.parseLong(age.trim());
+		} catch (NumberFormatException o_O) {
+			return 0;
+		}
+	}
+
+	private static boolean hasDirective(HttpHeaders headers, String name) {
+		return getDirective(headers, name) != null;
+	}
+
+	private static String getDirective(HttpHeaders headers, String name) {
+
+		List<String> values = headers.get(HttpHeaders.CACHE_CONTROL);
+
+		if (values == null) {
+			return null;
+		}
+
+		for (String value : values) {
+			for (String directive : StringUtils.commaDelimitedListToStringArray(value)) {
+
+				String[] parts = directive.trim().split("=", 2);
+
+				if (parts[0].trim().equalsIgnoreCase(name)) {
+					return parts.length == 2 ? StringUtils.trimTrailingCharacter(
+							StringUtils.trimLeadingCharacter(parts[1].trim(), '"'), '"') : "";
+				}
+			}
+		}
+
+		return null;
+	}
+}
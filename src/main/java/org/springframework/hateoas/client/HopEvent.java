@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Details about a single hop of a traversal handed to {@link HopListener}s.
+ *
+ * @author agent
+ * @since 1.0
+ * @see HopListener
+ */
+@Value
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class HopEvent {
+
+	/**
+	 * The relation followed.
+	 */
+	private final String rel;
+
+	/**
+	 * The URI (template) of the resource the relation was looked up in.
+	 */
+	private final String uriTemplate;
+
+	/**
+	 * The expanded {@link URI} of the resource the relation was looked up in.
+	 */
+	private final URI uri;
+
+	/**
+	 * The HTTP status code of the response received or {@literal 0} if no request was issued.
+	 */
+	private final int status;
+
+	/**
+	 * The number of bytes of the response body received or {@literal -1} if no response was received, e.g. because it
+	 * was served from a cache.
+	 */
+	private final long responseSize;
+
+	/**
+	 * The time spent on the entire hop in nanoseconds.
+	 */
+	private final long durationNanos;
+
+	/**
+	 * The time spent on reading the representation and discovering the link in it in nanoseconds.
+	 */
+	private final long discoveryNanos;
+
+	/**
+	 * Where the link was obtained from.
+	 */
+	private final Source source;
+
+	private final @Getter(AccessLevel.NONE) Throwable failure;
+
+	/**
+	 * Returns the time spent on the entire hop.
+	 *
+	 * @return
+	 */
+	public Duration getDuration() {
+		return Duration.ofNanos(durationNanos);
+	}
+
+	/**
+	 * Returns the time spent on reading the representation and discovering the link in it.
+	 *
+	 * @return
+	 */
+	public Duration getDiscoveryDuration() {
+		return Duration.ofNanos(discoveryNanos);
+	}
+
+	/**
+	 * Returns the exception the hop failed with, if any.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Throwable> getFailure() {
+		return Optional.ofNullable(failure);
+	}
+
+	/**
+	 * Returns whether the hop was completed successfully.
+	 *
+	 * @return
+	 */
+	public boolean isSuccessful() {
+		return failure == null;
+	}
+
+	/**
+	 * The origin of the link found for a hop.
+	 *
+	 * @author agent
+	 */
+	public enum Source {
+
+		/**
+		 * The resource was requested from the server.
+		 */
+		NETWORK,
+
+		/**
+		 * A cached response was revalidated with the server.
+		 */
+		REVALIDATED,
+
+		/**
+		 * A fresh response stored in the {@link TraversonCache} was used.
+		 */
+		RESPONSE_CACHE,
+
+		/**
+		 * The link was taken from the hop cache without looking at the resource at all.
+		 *
+		 * @see Traverson#setHopCachingEnabled(boolean)
+		 */
+		HOP_CACHE;
+	}
+}
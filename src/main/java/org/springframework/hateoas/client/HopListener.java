@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.net.URI;
+
+/**
+ * SPI to get notified about the individual hops of a traversal executed by a {@link Traverson}, e.g. to record the
+ * latency and size of the responses per relation with a metrics library. Listeners are invoked on the thread executing
+ * the hop and should return quickly. With Micrometer, an implementation would typically register a {@code Timer}
+ * tagged by {@link HopEvent#getRel()}, {@link HopEvent#getStatus()} and {@link HopEvent#getSource()} and record
+ * {@link HopEvent#getDurationNanos()} in {@link #afterHop(HopEvent)}. Exceptions thrown by listeners are logged and
+ * do not affect the outcome of the traversal.
+ *
+ * @author agent
+ * @since 1.0
+ * @see Traverson#setHopListeners(java.util.List)
+ */
+public interface HopListener {
+
+	/**
+	 * Invoked before the link for the given relation is looked up in the resource identified by the given {@link URI}.
+	 *
+	 * @param rel will never be {@literal null}.
+	 * @param uri will never be {@literal null}.
+	 */
+	default void beforeHop(String rel, URI uri) {}
+
+	/**
+	 * Invoked after the link for a relation was looked up, no matter whether successfully or not.
+	 *
+	 * @param event will never be {@literal null}.
+	 */
+	void afterHop(HopEvent event);
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TraversonCache} keeping a bounded number of {@link CachedResponse}s in memory. Evicts the least recently used
+ * entry once the configured maximum size is exceeded.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class InMemoryTraversonCache implements TraversonCache {
+
+	private static final int DEFAULT_MAX_SIZE = 256;
+
+	private final Map<CacheKey, CachedResponse> responses;
+
+	/**
+	 * Creates a new {@link InMemoryTraversonCache} holding up to 256 responses.
+	 */
+	public InMemoryTraversonCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link InMemoryTraversonCache} holding up to the given number of responses.
+	 *
+	 * @param maxSize must be greater than zero.
+	 */
+	public InMemoryTraversonCache(int maxSize) {
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+
+		this.responses = new LinkedHashMap<CacheKey, CachedResponse>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 3473526349003440563L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedResponse> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#get(java.net.URI, org.springframework.http.HttpHeaders)
+	 */
+	@Override
+	public Optional<CachedResponse> get(URI uri, HttpHeaders headers) {
+
+		CacheKey key = new CacheKey(uri, headers);
+
+		synchronized (responses) {
+			return Optional.ofNullable(responses.get(key));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#put(java.net.URI, org.springframework.http.HttpHeaders, org.springframework.hateoas.client.CachedResponse)
+	 */
+	@Override
+	public void put(URI uri, HttpHeaders headers, CachedResponse response) {
+
+		Assert.notNull(response, "CachedResponse must not be null!");
+
+		CacheKey key = new CacheKey(uri, headers);
+
+		synchronized (responses) {
+			responses.put(key, response);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#evict(java.net.URI, org.springframework.http.HttpHeaders)
+	 */
+	@Override
+	public void evict(URI uri, HttpHeaders headers) {
+
+		CacheKey key = new CacheKey(uri, headers);
+
+		synchronized (responses) {
+			responses.remove(key);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.TraversonCache#clear()
+	 */
+	@Override
+	public void clear() {
+
+		synchronized (responses) {
+			responses.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of responses currently cached.
+	 *
+	 * @return
+	 */
+	public int size() {
+
+		synchronized (responses) {
+			return responses.size();
+		}
+	}
+
+	@Value
+	@RequiredArgsConstructor
+	private static class CacheKey {
+
+		private final URI uri;
+		private final HttpHeaders headers;
+	}
+}
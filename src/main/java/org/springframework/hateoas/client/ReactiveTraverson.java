@@ -0,0 +1,449 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.codec.ByteArrayDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.LinkDiscoverers;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.reactive.WebClientConfigurer;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Non-blocking variant of {@link Traverson} using a {@link WebClient} to follow links with relation types. Supports
+ * the same {@link Hop}, relation name and JSONPath semantics. To discover links, the body of each intermediate response
+ * is joined into a single {@link DataBuffer} and parsed from there. This avoids turning it into a {@link String} but
+ * still buffers the entire response in memory, as does evaluating a JSONPath expression against the final response.
+ *
+ * @author agent
+ * @since 1.0
+ * @see Traverson
+ * @see WebClientConfigurer#registerHypermediaTypes(WebClient)
+ */
+public class ReactiveTraverson {
+
+	private static final LinkDiscoverers DEFAULT_LINK_DISCOVERERS;
+
+	static {
+		LinkDiscoverer discoverer = new HalLinkDiscoverer();
+		DEFAULT_LINK_DISCOVERERS = new LinkDiscoverers(OrderAwarePluginRegistry.of(discoverer));
+	}
+
+	private final URI baseUri;
+	private final List<MediaType> mediaTypes;
+
+	private WebClient webClient;
+	private LinkDiscoverers discoverers;
+
+	/**
+	 * Creates a new {@link ReactiveTraverson} interacting with the given base URI and using the given {@link MediaType}s
+	 * to interact with the service.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public ReactiveTraverson(URI baseUri, MediaType... mediaTypes) {
+		this(baseUri, Arrays.asList(mediaTypes));
+	}
+
+	/**
+	 * Creates a new {@link ReactiveTraverson} interacting with the given base URI and using the given {@link MediaType}s
+	 * to interact with the service.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public ReactiveTraverson(URI baseUri, List<MediaType> mediaTypes) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		Assert.notEmpty(mediaTypes, "At least one media type must be given!");
+
+		this.baseUri = baseUri;
+		this.mediaTypes = mediaTypes;
+		this.discoverers = DEFAULT_LINK_DISCOVERERS;
+
+		setWebClient(null);
+	}
+
+	/**
+	 * Creates a default {@link WebClient} using the HAL codecs of {@link WebClientConfigurer#hypermediaExchangeStrategies()}
+	 * based on the {@link ObjectMapper}s shared with {@link Traverson}. As the configurer disables the default codecs, a
+	 * {@link ByteArrayDecoder} is registered in addition to read the bodies of error responses. Only the default
+	 * {@code byte[]} decoder is registered, as the default JSON decoder would take precedence over the HAL one.
+	 *
+	 * @return
+	 */
+	private static WebClient createDefaultWebClient() {
+
+		ExchangeStrategies hypermedia = new WebClientConfigurer(Traverson.DEFAULT_OBJECT_MAPPERS,
+				Collections.singleton(HypermediaType.HAL)).hypermediaExchangeStrategies();
+
+		ExchangeStrategies strategies = ExchangeStrategies.builder().codecs(it -> {
+
+			it.registerDefaults(false);
+
+			hypermedia.messageReaders().forEach(it.customCodecs()::reader);
+			hypermedia.messageWriters().forEach(it.customCodecs()::writer);
+
+			it.customCodecs().decoder(new ByteArrayDecoder());
+		}).build();
+
+		return WebClient.builder().exchangeStrategies(strategies).build();
+	}
+
+	/**
+	 * Configures the {@link WebClient} to use. Use {@link WebClientConfigurer#registerHypermediaTypes(WebClient)} to
+	 * equip a {@link WebClient} with the codecs for all enabled hypermedia types. If {@literal null} is provided a
+	 * default {@link WebClient} with HAL support will be used. It decodes HAL and {@code byte[]} bodies only, configure
+	 * a custom {@link WebClient} to decode final resources of other media types.
+	 *
+	 * @param webClient can be {@literal null}.
+	 * @return
+	 */
+	public ReactiveTraverson setWebClient(WebClient webClient) {
+
+		this.webClient = webClient == null ? createDefaultWebClient() : webClient;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link LinkDiscoverers} to use. By default a single {@link HalLinkDiscoverer} is registered. If
+	 * {@literal null} is provided the default is reapplied.
+	 *
+	 * @param discoverers can be {@literal null}.
+	 * @return
+	 */
+	public ReactiveTraverson setLinkDiscoverers(List<? extends LinkDiscoverer> discoverers) {
+
+		this.discoverers = discoverers == null ? DEFAULT_LINK_DISCOVERERS
+				: new LinkDiscoverers(OrderAwarePluginRegistry.of(discoverers));
+
+		return this;
+	}
+
+	/**
+	 * Sets up a {@link ReactiveTraversalBuilder} to follow the given rels.
+	 *
+	 * @param rels must not be {@literal null} or empty.
+	 * @return
+	 * @see ReactiveTraversalBuilder
+	 */
+	public ReactiveTraversalBuilder follow(String... rels) {
+		return new ReactiveTraversalBuilder().follow(rels);
+	}
+
+	/**
+	 * Sets up a {@link ReactiveTraversalBuilder} for a single rel with customized details.
+	 *
+	 * @param hop must not be {@literal null}
+	 * @return
+	 */
+	public ReactiveTraversalBuilder follow(Hop hop) {
+		return new ReactiveTraversalBuilder().follow(hop);
+	}
+
+	private HttpHeaders prepareHeaders(HttpHeaders headers) {
+
+		HttpHeaders toSend = new HttpHeaders();
+		toSend.putAll(headers);
+
+		if (headers.getAccept().isEmpty()) {
+			toSend.setAccept(mediaTypes);
+		}
+
+		return toSend;
+	}
+
+	/**
+	 * Builder API to customize non-blocking traversals.
+	 *
+	 * @author agent
+	 */
+	public class ReactiveTraversalBuilder {
+
+		private final Traversal traversal = new Traversal();
+
+		private ReactiveTraversalBuilder() {}
+
+		/**
+		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
+		 * line.
+		 *
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		public ReactiveTraversalBuilder follow(String... rels) {
+
+			this.traversal.follow(rels);
+			return this;
+		}
+
+		/**
+		 * Follows the given {@link Hop}.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 * @see Hop#rel(String)
+		 */
+		public ReactiveTraversalBuilder follow(Hop hop) {
+
+			this.traversal.follow(hop);
+			return this;
+		}
+
+		/**
+		 * Adds the given operations parameters to the traversal. If a link discovered by the traversal is templated, the
+		 * given parameters will be used to expand the operations into a resolvable URI.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return
+		 */
+		public ReactiveTraversalBuilder withTemplateParameters(Map<String, Object> parameters) {
+
+			this.traversal.setTemplateParameters(parameters);
+			return this;
+		}
+
+		/**
+		 * The {@link HttpHeaders} that shall be used for the requests of the traversal.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @return
+		 */
+		public ReactiveTraversalBuilder withHeaders(HttpHeaders headers) {
+
+			this.traversal.setHeaders(headers);
+			return this;
+		}
+
+		/**
+		 * Executes the traversal and decodes the final response into an object of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return retrieveFinalResource(it -> it.bodyToMono(type));
+		}
+
+		/**
+		 * Executes the traversal and decodes the final response into an object of the given
+		 * {@link ParameterizedTypeReference}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return retrieveFinalResource(it -> it.bodyToMono(type));
+		}
+
+		/**
+		 * Executes the traversal and returns the result of the given JSON Path expression evaluated against the final
+		 * representation.
+		 *
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(String jsonPath) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+			return retrieveFinalResource(it -> DataBufferUtils.join(it.body(BodyExtractors.toDataBuffers())) //
+					.map(buffer -> read(buffer, stream -> JsonPath.parse(stream).<T> read(jsonPath))));
+		}
+
+		/**
+		 * Executes the traversal and decodes the final response into a {@link Flux} of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Flux<T> toFlux(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return traverseToExpandedFinalUrl() //
+					.flatMapMany(it -> exchange(it.getUri(), traversal.mergeHeaders(it.getHttpHeaders()))) //
+					.flatMap(it -> it.bodyToFlux(type));
+		}
+
+		/**
+		 * Returns the raw {@link ResponseEntity} with the representation decoded into an instance of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<ResponseEntity<T>> toEntity(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return retrieveFinalResource(it -> it.toEntity(type));
+		}
+
+		/**
+		 * Returns the {@link Link} found for the last rel in the rels configured to follow. Will expand the final
+		 * {@link Link} using the configured template parameters.
+		 *
+		 * @return
+		 * @see #withTemplateParameters(Map)
+		 */
+		public Mono<Link> asLink() {
+			return traverseToLink(true);
+		}
+
+		/**
+		 * Returns the templated {@link Link} found for the last rel in the rels configured to follow.
+		 *
+		 * @return
+		 */
+		public Mono<Link> asTemplatedLink() {
+			return traverseToLink(false);
+		}
+
+		private <T> Mono<T> retrieveFinalResource(Function<ClientResponse, Mono<T>> extractor) {
+
+			return traverseToExpandedFinalUrl() //
+					.flatMap(it -> exchange(it.getUri(), traversal.mergeHeaders(it.getHttpHeaders()))) //
+					.flatMap(extractor);
+		}
+
+		private Mono<Link> traverseToLink(boolean expandFinalUrl) {
+
+			String rel = traversal.getLastRel();
+
+			return getAndFindLinkWithRel(baseUri.toString(), 0, HttpHeaders.EMPTY) //
+					.map(it -> new UriTemplate(it.getUri())) //
+					.map(it -> new Link(
+							expandFinalUrl ? it.expand(traversal.getTemplateParameters()).toString() : it.toString(), rel));
+		}
+
+		private Mono<URIAndHeaders> traverseToExpandedFinalUrl() {
+
+			return getAndFindLinkWithRel(baseUri.toString(), 0, HttpHeaders.EMPTY).map(traversal::expand);
+		}
+
+		private Mono<UriStringAndHeaders> getAndFindLinkWithRel(String uri, int index, HttpHeaders extraHeaders) {
+
+			List<Hop> rels = traversal.getRels();
+
+			if (index >= rels.size()) {
+				return Mono.just(new UriStringAndHeaders(uri, extraHeaders));
+			}
+
+			Hop thisHop = rels.get(index);
+			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
+
+			return exchange(new UriTemplate(uri).expand(), traversal.mergeHeaders(extraHeaders)) //
+					.flatMap(response -> findLinkWithRel(response, rel)) //
+					.switchIfEmpty(Mono.defer(() -> Mono.error(new IllegalStateException(
+							String.format("Expected to find link with rel '%s' in response from %s!", rel, uri))))) //
+					.flatMap(link -> getAndFindLinkWithRel(thisHop.hasParameters() //
+							? link.expand(thisHop.getMergedParameters(traversal.getTemplateParameters())).getHref() //
+							: link.getHref(), index + 1, thisHop.getHeaders()));
+		}
+
+		private Mono<Link> findLinkWithRel(ClientResponse response, Rel rel) {
+
+			MediaType contentType = response.headers().contentType().orElse(null);
+
+			return DataBufferUtils.join(response.body(BodyExtractors.toDataBuffers())) //
+					.flatMap(buffer -> Mono.justOrEmpty(read(buffer, stream -> rel.findInResponse(stream, contentType))));
+		}
+
+		private Mono<ClientResponse> exchange(URI uri, HttpHeaders headers) {
+
+			HttpHeaders toSend = prepareHeaders(headers);
+
+			return webClient.get() //
+					.uri(uri) //
+					.headers(it -> it.putAll(toSend)) //
+					.exchange() //
+					.flatMap(ReactiveTraverson::rejectErrors);
+		}
+	}
+
+	/**
+	 * Turns error responses into a {@link WebClientResponseException} signal, consuming the response body.
+	 *
+	 * @param response must not be {@literal null}.
+	 * @return
+	 */
+	private static Mono<ClientResponse> rejectErrors(ClientResponse response) {
+
+		if (!response.statusCode().isError()) {
+			return Mono.just(response);
+		}
+
+		return response.bodyToMono(byte[].class) //
+				.defaultIfEmpty(new byte[0]) //
+				.flatMap(body -> Mono.error(WebClientResponseException.create(response.rawStatusCode(),
+						response.statusCode().getReasonPhrase(), response.headers().asHttpHeaders(), body, null)));
+	}
+
+	/**
+	 * Reads the given {@link DataBuffer} through an {@link InputStream} and releases it afterwards.
+	 *
+	 * @param buffer must not be {@literal null}.
+	 * @param reader must not be {@literal null}.
+	 * @return
+	 */
+	private static <T> T read(DataBuffer buffer, Function<InputStream, T> reader) {
+
+		try (InputStream stream = buffer.asInputStream(true)) {
+			return reader.apply(stream);
+		} catch (IOException o_O) {
+			throw new UncheckedIOException(o_O);
+		}
+	}
+}
@@ -15,11 +15,14 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Optional;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
+import org.springframework.hateoas.Links;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 
@@ -63,6 +66,24 @@ class Rels {
 		 * @return
 		 */
 		Optional<Link> findInResponse(String representation, MediaType mediaType);
+
+		/**
+		 * Returns the link contained in the given {@link InputStream} representation of the given {@link MediaType}.
+		 *
+		 * @param representation
+		 * @param mediaType
+		 * @return
+		 */
+		Optional<Link> findInResponse(InputStream representation, MediaType mediaType);
+
+		/**
+		 * Returns all links contained in the given {@link InputStream} representation of the given {@link MediaType}.
+		 *
+		 * @param representation
+		 * @param mediaType
+		 * @return
+		 */
+		Links findAllInResponse(InputStream representation, MediaType mediaType);
 	}
 
 	/**
@@ -102,6 +123,30 @@ class Rels {
 					.findLinkWithRel(rel, response);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Optional<Link> findInResponse(InputStream response, MediaType mediaType) {
+
+			return discoverers //
+					.getRequiredLinkDiscovererFor(mediaType) //
+					.findLinkWithRel(rel, response);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Links findAllInResponse(InputStream response, MediaType mediaType) {
+
+			return discoverers //
+					.getRequiredLinkDiscovererFor(mediaType) //
+					.findLinksWithRel(rel, response);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see java.lang.Object#toString()
@@ -146,5 +191,41 @@ class Rels {
 		public Optional<Link> findInResponse(String representation, MediaType mediaType) {
 			return Optional.of(new Link(JsonPath.read(representation, jsonPath).toString(), rel));
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Optional<Link> findInResponse(InputStream representation, MediaType mediaType) {
+			return Optional.of(new Link(JsonPath.parse(representation).read(jsonPath).toString(), rel));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findAllInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Links findAllInResponse(InputStream representation, MediaType mediaType) {
+
+			Object result = JsonPath.parse(representation).read(jsonPath);
+
+			if (!(result instanceof Collection)) {
+				return Links.of(new Link(result.toString(), rel));
+			}
+
+			return ((Collection<?>) result).stream() //
+					.map(it -> new Link(it.toString(), rel)) //
+					.collect(Links.collector());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return this.jsonPath;
+		}
 	}
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link Hop}s, template parameters and {@link HttpHeaders} of a traversal as collected by the traversal builders
+ * of {@link Traverson} and {@link ReactiveTraverson}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+class Traversal {
+
+	private final List<Hop> rels = new ArrayList<>();
+	private Map<String, Object> templateParameters = new HashMap<>();
+	private HttpHeaders headers = new HttpHeaders();
+
+	/**
+	 * Adds a {@link Hop} for each of the given rels.
+	 *
+	 * @param rels must not be {@literal null}.
+	 */
+	void follow(String... rels) {
+
+		Assert.notNull(rels, "Rels must not be null!");
+
+		for (String rel : rels) {
+			this.rels.add(Hop.rel(rel));
+		}
+	}
+
+	/**
+	 * Adds the given {@link Hop}.
+	 *
+	 * @param hop must not be {@literal null}.
+	 */
+	void follow(Hop hop) {
+
+		Assert.notNull(hop, "Hop must not be null!");
+
+		this.rels.add(hop);
+	}
+
+	/**
+	 * @param parameters must not be {@literal null}.
+	 */
+	void setTemplateParameters(Map<String, Object> parameters) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		this.templateParameters = parameters;
+	}
+
+	/**
+	 * @param headers must not be {@literal null}.
+	 */
+	void setHeaders(HttpHeaders headers) {
+
+		Assert.notNull(headers, "Headers must not be null!");
+
+		this.headers = headers;
+	}
+
+	List<Hop> getRels() {
+		return rels;
+	}
+
+	Map<String, Object> getTemplateParameters() {
+		return templateParameters;
+	}
+
+	HttpHeaders getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the last rel to follow.
+	 *
+	 * @return
+	 * @throws IllegalArgumentException in case no rel was configured.
+	 */
+	String getLastRel() {
+
+		Assert.isTrue(this.rels.size() > 0, "At least one rel needs to be provided!");
+
+		return this.rels.get(this.rels.size() - 1).getRel();
+	}
+
+	/**
+	 * Returns the {@link HttpHeaders} of the traversal combined with the given ones.
+	 *
+	 * @param extraHeaders must not be {@literal null}.
+	 * @return
+	 */
+	HttpHeaders mergeHeaders(HttpHeaders extraHeaders) {
+		return mergeHeaders(this.headers, extraHeaders);
+	}
+
+	/**
+	 * Expands the given {@link UriStringAndHeaders} using the template parameters of the traversal.
+	 *
+	 * @param uriAndHeaders must not be {@literal null}.
+	 * @return
+	 */
+	URIAndHeaders expand(UriStringAndHeaders uriAndHeaders) {
+		return new URIAndHeaders(new UriTemplate(uriAndHeaders.getUri()).expand(this.templateParameters),
+				uriAndHeaders.getHttpHeaders());
+	}
+
+	/**
+	 * Combine two sets of {@link HttpHeaders} into one.
+	 *
+	 * @param headersA
+	 * @param headersB
+	 * @return
+	 */
+	static HttpHeaders mergeHeaders(HttpHeaders headersA, HttpHeaders headersB) {
+
+		HttpHeaders mergedHeaders = new HttpHeaders();
+
+		mergedHeaders.addAll(headersA);
+		mergedHeaders.addAll(headersB);
+
+		return mergedHeaders;
+	}
+}
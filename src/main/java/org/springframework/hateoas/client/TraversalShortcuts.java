@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Remembers the URI (template) a traversal has reached for a given base URI and prefix of relations so that subsequent
+ * traversals can skip the already known hops. Shortcuts expire after a configurable time to live. Expired shortcuts
+ * are either dropped or, if an {@link Executor} is configured, still handed out while the traversal they originate
+ * from is repeated in the background.
+ *
+ * @author agent
+ * @since 1.0
+ */
+class TraversalShortcuts {
+
+	private final long timeToLive;
+	private final Executor executor;
+	private final Map<Key, Shortcut> shortcuts = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Creates a new {@link TraversalShortcuts} instance for the given time to live and {@link Executor} to revalidate
+	 * expired shortcuts on.
+	 *
+	 * @param timeToLive must not be {@literal null} or negative.
+	 * @param executor can be {@literal null}, in which case expired shortcuts are dropped.
+	 */
+	TraversalShortcuts(Duration timeToLive, Executor executor) {
+
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative!");
+
+		this.timeToLive = timeToLive.toMillis();
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Shortcut} registered for the given {@link Key}. If the shortcut has expired, the given
+	 * revalidation is submitted to the configured {@link Executor} and the expired shortcut is returned. Without an
+	 * {@link Executor}, expired shortcuts are evicted.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param revalidation must not be {@literal null}.
+	 * @return
+	 */
+	Optional<Shortcut> get(Key key, Runnable revalidation) {
+
+		Shortcut shortcut = shortcuts.get(key);
+
+		if (shortcut == null || shortcut.isFresh(System.currentTimeMillis())) {
+			return Optional.ofNullable(shortcut);
+		}
+
+		if (executor == null) {
+
+			shortcuts.remove(key, shortcut);
+			return Optional.empty();
+		}
+
+		if (shortcut.startRevalidation()) {
+			executor.execute(() -> revalidate(key, shortcut, revalidation));
+		}
+
+		return Optional.of(shortcut);
+	}
+
+	/**
+	 * Registers a shortcut to the given URI and {@link HttpHeaders} for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param uri must not be {@literal null}.
+	 * @param headers must not be {@literal null}.
+	 */
+	void put(Key key, String uri, HttpHeaders headers) {
+		shortcuts.put(key, new Shortcut(uri, headers, System.currentTimeMillis() + timeToLive, new AtomicBoolean()));
+	}
+
+	/**
+	 * Evicts the shortcut registered for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return whether a shortcut was registered for the given {@link Key}.
+	 */
+	boolean evict(Key key) {
+		return shortcuts.remove(key) != null;
+	}
+
+	private void revalidate(Key key, Shortcut shortcut, Runnable revalidation) {
+
+		try {
+			revalidation.run();
+		} catch (RuntimeException o_O) {
+			shortcuts.remove(key, shortcut);
+		}
+	}
+
+	/**
+	 * Identifies a shortcut by the base URI of the traversal, the {@link Hop}s followed, the template parameters used to
+	 * expand intermediate links and the {@link HttpHeaders} of the traversal.
+	 */
+	@Value
+	@RequiredArgsConstructor
+	static class Key {
+
+		private final String baseUri;
+		private final List<Hop> hops;
+		private final Map<String, Object> parameters;
+		private final HttpHeaders headers;
+	}
+
+	/**
+	 * The URI a traversal has reached alongside the {@link HttpHeaders} to use for the following hop.
+	 */
+	@Value
+	@RequiredArgsConstructor
+	static class Shortcut {
+
+		private final String uri;
+		private final HttpHeaders headers;
+		private final long expires;
+		private final AtomicBoolean revalidating;
+
+		boolean isFresh(long now) {
+			return now < expires;
+		}
+
+		boolean startRevalidation() {
+			return revalidating.compareAndSet(false, true);
+		}
+	}
+}
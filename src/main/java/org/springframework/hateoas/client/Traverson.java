@@ -20,39 +20,68 @@ import static org.springframework.http.HttpMethod.*;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.hateoas.client.TraversalShortcuts.Shortcut;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
-import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.support.ExecutorUtils;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 
@@ -70,7 +99,12 @@ import com.jayway.jsonpath.JsonPath;
  */
 public class Traverson {
 
+	private static final Logger LOG = LoggerFactory.getLogger(Traverson.class);
+
+	static final HypermediaObjectMappers DEFAULT_OBJECT_MAPPERS = HypermediaObjectMappers.of(new ObjectMapper());
+
 	private static final LinkDiscoverers DEFAULT_LINK_DISCOVERERS;
+	private static final int FAN_OUT_QUEUE_CAPACITY = 256;
 
 	static {
 		LinkDiscoverer discoverer = new HalLinkDiscoverer();
@@ -82,6 +116,10 @@ public class Traverson {
 
 	private RestOperations operations;
 	private LinkDiscoverers discoverers;
+	private Map<HopCacheKey, Link> hopCache;
+	private TraversonCache cache;
+	private TraversalShortcuts shortcuts;
+	private List<HopListener> hopListeners = Collections.emptyList();
 
 	/**
 	 * Creates a new {@link Traverson} interacting with the given base URI and using the given {@link MediaType}s to
@@ -130,7 +168,22 @@ public class Traverson {
 	 * @return
 	 */
 	public static List<HttpMessageConverter<?>> getDefaultMessageConverters(List<MediaType> mediaTypes) {
+		return getDefaultMessageConverters(DEFAULT_OBJECT_MAPPERS, mediaTypes);
+	}
+
+	/**
+	 * Returns all {@link HttpMessageConverter}s that will be registered for the given {@link MediaType}s by default using
+	 * the {@link ObjectMapper}s provided by the given {@link HypermediaObjectMappers}.
+	 *
+	 * @param mappers must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public static List<HttpMessageConverter<?>> getDefaultMessageConverters(HypermediaObjectMappers mappers,
+			List<MediaType> mediaTypes) {
 
+		Assert.notNull(mappers, "HypermediaObjectMappers must not be null!");
 		Assert.notNull(mediaTypes, "Media types must not be null!");
 
 		List<HttpMessageConverter<?>> converters = new ArrayList<>();
@@ -139,7 +192,7 @@ public class Traverson {
 		List<MediaType> halFlavors = getHalJsonFlavors(mediaTypes);
 
 		if (!halFlavors.isEmpty()) {
-			converters.add(getHalConverter(halFlavors));
+			converters.add(getHalConverter(mappers, halFlavors));
 		}
 
 		return converters;
@@ -167,19 +220,36 @@ public class Traverson {
 	}
 
 	/**
-	 * Creates a new {@link HttpMessageConverter} to support HAL.
+	 * Creates the {@link Executor} fan-out traversals run on by default. Uses a bounded number of daemon threads that are
+	 * released after having been idle for a while. At most {@value #FAN_OUT_QUEUE_CAPACITY} traversals wait for a
+	 * thread, further ones are rejected with a {@link java.util.concurrent.RejectedExecutionException}.
 	 *
 	 * @return
 	 */
-	private static final HttpMessageConverter<?> getHalConverter(List<MediaType> halFlavours) {
+	private static Executor createFanOutExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("traverson-fan-out-");
+		threadFactory.setDaemon(true);
 
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new Jackson2HalModule());
-		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(FAN_OUT_QUEUE_CAPACITY), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * Creates a new {@link HttpMessageConverter} to support HAL.
+	 *
+	 * @return
+	 */
+	private static final HttpMessageConverter<?> getHalConverter(HypermediaObjectMappers mappers,
+			List<MediaType> halFlavours) {
 
 		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
 
-		converter.setObjectMapper(mapper);
+		converter.setObjectMapper(mappers.getObjectMapper(HypermediaType.HAL));
 		converter.setSupportedMediaTypes(halFlavours);
 
 		return converter;
@@ -213,6 +283,92 @@ public class Traverson {
 		return this;
 	}
 
+	/**
+	 * Configures whether to cache the {@link Link}s discovered for the individual hops of a traversal. If enabled, the
+	 * {@link Link} found for a relation in a resource is remembered per URI, relation and request headers (including
+	 * {@code Accept}) and subsequent traversals reuse it instead of issuing a request for that resource again. If a
+	 * traversal fails with {@code 404 Not Found} or {@code 410 Gone}, it is repeated once requesting all hops again, so
+	 * that the cached {@link Link}s pointing to resources that have moved or disappeared are replaced. Disabling the
+	 * cache drops all cached {@link Link}s. Disabled by default.
+	 *
+	 * @param enabled whether to cache the {@link Link}s discovered per hop.
+	 * @return
+	 * @since 1.0
+	 */
+	public Traverson setHopCachingEnabled(boolean enabled) {
+
+		this.hopCache = enabled ? new ConcurrentReferenceHashMap<>() : null;
+		return this;
+	}
+
+	/**
+	 * Configures the {@link TraversonCache} to store the responses of the intermediate resources of a traversal in.
+	 * Cached responses are reused as long as they're fresh according to their {@code Cache-Control} and
+	 * {@code Expires} headers and revalidated using conditional requests based on {@code ETag} and
+	 * {@code Last-Modified} afterwards. The {@link Link}s discovered in a cached response are kept along with it. If
+	 * {@literal null} is provided, responses are not cached, which is the default.
+	 *
+	 * @param cache can be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 * @see InMemoryTraversonCache
+	 */
+	public Traverson setCache(TraversonCache cache) {
+
+		this.cache = cache;
+		return this;
+	}
+
+	/**
+	 * Registers the given {@link HopListener}s to be notified about every hop of a traversal. No per-hop measurements
+	 * are taken if no listener is registered, which is the default.
+	 *
+	 * @param listeners must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public Traverson setHopListeners(List<? extends HopListener> listeners) {
+
+		Assert.notNull(listeners, "Hop listeners must not be null!");
+
+		this.hopListeners = listeners.isEmpty() ? Collections.emptyList() : new ArrayList<>(listeners);
+		return this;
+	}
+
+	/**
+	 * Configures Traverson to remember the URI (template) reached for every prefix of the relations followed from the
+	 * base URI, so that subsequent traversals for the same relations skip the already known hops and, in the steady
+	 * state, only issue the request for the final resource. Shortcuts expire after the given time to live and are
+	 * re-discovered by the next traversal. If a request issued via a shortcut results in a {@code 404 Not Found} or
+	 * {@code 410 Gone}, the shortcuts of the traversal are dropped and the traversal is repeated hop by hop. If
+	 * {@literal null} is given, shortcuts are disabled, which is the default.
+	 *
+	 * @param timeToLive can be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 * @see #setTraversalShortcuts(Duration, Executor)
+	 */
+	public Traverson setTraversalShortcuts(Duration timeToLive) {
+		return setTraversalShortcuts(timeToLive, null);
+	}
+
+	/**
+	 * Configures Traverson to remember the URI (template) reached for every prefix of the relations followed from the
+	 * base URI like {@link #setTraversalShortcuts(Duration)} but keeps using expired shortcuts while re-discovering
+	 * them on the given {@link Executor}.
+	 *
+	 * @param timeToLive can be {@literal null}.
+	 * @param revalidationExecutor can be {@literal null}, in which case expired shortcuts are re-discovered by the
+	 *          traversal using them.
+	 * @return
+	 * @since 1.0
+	 */
+	public Traverson setTraversalShortcuts(Duration timeToLive, Executor revalidationExecutor) {
+
+		this.shortcuts = timeToLive == null ? null : new TraversalShortcuts(timeToLive, revalidationExecutor);
+		return this;
+	}
+
 	/**
 	 * Sets up a {@link TraversalBuilder} to follow the given rels.
 	 *
@@ -234,6 +390,17 @@ public class Traverson {
 		return new TraversalBuilder().follow(hop);
 	}
 
+	/**
+	 * Creates a {@link RequestCallback} applying the headers of the given {@link HttpEntity} to the request. Used for
+	 * requests whose responses are consumed as stream via a {@link ResponseExtractor}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private static RequestCallback toCallback(HttpEntity<?> entity) {
+		return request -> request.getHeaders().putAll(entity.getHeaders());
+	}
+
 	private HttpEntity<?> prepareRequest(HttpHeaders headers) {
 
 		HttpHeaders toSend = new HttpHeaders();
@@ -253,9 +420,7 @@ public class Traverson {
 	 */
 	public class TraversalBuilder {
 
-		private final List<Hop> rels = new ArrayList<>();
-		private Map<String, Object> templateParameters = new HashMap<>();
-		private HttpHeaders headers = new HttpHeaders();
+		private final Traversal traversal = new Traversal();
 
 		private TraversalBuilder() {}
 
@@ -268,12 +433,7 @@ public class Traverson {
 		 */
 		public TraversalBuilder follow(String... rels) {
 
-			Assert.notNull(rels, "Rels must not be null!");
-
-			for (String rel : rels) {
-				this.rels.add(Hop.rel(rel));
-			}
-
+			this.traversal.follow(rels);
 			return this;
 		}
 
@@ -287,11 +447,38 @@ public class Traverson {
 		 */
 		public TraversalBuilder follow(Hop hop) {
 
-			Assert.notNull(hop, "Hop must not be null!");
+			this.traversal.follow(hop);
+			return this;
+		}
 
-			this.rels.add(hop);
+		/**
+		 * Follows all links with the given relation found in the resource the traversal has reached so far and continues
+		 * the traversal for each of them individually. The relation can also be a JSONPath expression pointing to multiple
+		 * URIs, e.g. the {@code self} links of embedded resources.
+		 *
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 * @see FanOutTraversalBuilder
+		 * @since 1.0
+		 */
+		public FanOutTraversalBuilder followEach(String rel) {
+			return followEach(Hop.rel(rel));
+		}
 
-			return this;
+		/**
+		 * Follows all links with the relation of the given {@link Hop} found in the resource the traversal has reached so
+		 * far and continues the traversal for each of them individually.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 * @see FanOutTraversalBuilder
+		 * @since 1.0
+		 */
+		public FanOutTraversalBuilder followEach(Hop hop) {
+
+			Assert.notNull(hop, "Hop must not be null!");
+
+			return new FanOutTraversalBuilder(this, hop);
 		}
 
 		/**
@@ -303,9 +490,7 @@ public class Traverson {
 		 */
 		public TraversalBuilder withTemplateParameters(Map<String, Object> parameters) {
 
-			Assert.notNull(parameters, "Parameters must not be null!");
-
-			this.templateParameters = parameters;
+			this.traversal.setTemplateParameters(parameters);
 			return this;
 		}
 
@@ -317,9 +502,7 @@ public class Traverson {
 		 */
 		public TraversalBuilder withHeaders(HttpHeaders headers) {
 
-			Assert.notNull(headers, "Headers must not be null!");
-
-			this.headers = headers;
+			this.traversal.setHeaders(headers);
 			return this;
 		}
 
@@ -333,10 +516,11 @@ public class Traverson {
 
 			Assert.notNull(type, "Target type must not be null!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			return traverseAndRequest(uriAndHeaders -> {
 
-			return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type).getBody();
+				HttpEntity<?> requestEntity = prepareRequest(traversal.mergeHeaders(uriAndHeaders.getHttpHeaders()));
+				return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type).getBody();
+			});
 		}
 
 		/**
@@ -350,10 +534,11 @@ public class Traverson {
 
 			Assert.notNull(type, "Target type must not be null!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			return traverseAndRequest(uriAndHeaders -> {
 
-			return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type).getBody();
+				HttpEntity<?> requestEntity = prepareRequest(traversal.mergeHeaders(uriAndHeaders.getHttpHeaders()));
+				return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type).getBody();
+			});
 		}
 
 		/**
@@ -367,11 +552,12 @@ public class Traverson {
 
 			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			return traverseAndRequest(uriAndHeaders -> {
 
-			String forObject = operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, String.class).getBody();
-			return JsonPath.read(forObject, jsonPath);
+				HttpEntity<?> requestEntity = prepareRequest(traversal.mergeHeaders(uriAndHeaders.getHttpHeaders()));
+				return operations.execute(uriAndHeaders.getUri(), GET, toCallback(requestEntity),
+						response -> JsonPath.parse(response.getBody()).<T> read(jsonPath));
+			});
 		}
 
 		/**
@@ -384,10 +570,11 @@ public class Traverson {
 
 			Assert.notNull(type, "Target type must not be null!");
 
-			URIAndHeaders uriAndHeaders = traverseToExpandedFinalUrl();
-			HttpEntity<?> requestEntity = prepareRequest(mergeHeaders(this.headers, uriAndHeaders.getHttpHeaders()));
+			return traverseAndRequest(uriAndHeaders -> {
 
-			return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type);
+				HttpEntity<?> requestEntity = prepareRequest(traversal.mergeHeaders(uriAndHeaders.getHttpHeaders()));
+				return operations.exchange(uriAndHeaders.getUri(), GET, requestEntity, type);
+			});
 		}
 
 		/**
@@ -414,99 +601,784 @@ public class Traverson {
 
 		private Link traverseToLink(boolean expandFinalUrl) {
 
-			Assert.isTrue(this.rels.size() > 0, "At least one rel needs to be provided!");
+			String rel = traversal.getLastRel();
+
+			UriStringAndHeaders finalUriAndHeaders = refreshingStaleHops(useHopCache -> traverse(true, useHopCache));
+			UriTemplate template = new UriTemplate(finalUriAndHeaders.getUri());
+
+			return new Link(
+					expandFinalUrl ? template.expand(traversal.getTemplateParameters()).toString() : template.toString(), rel);
+		}
+
+		/**
+		 * Executes the traversal and hands the expanded final {@link URI} to the given request. If the traversal used a
+		 * shortcut and either the remaining hops or the request fail with {@code 404 Not Found} or {@code 410 Gone}, the
+		 * shortcuts are dropped and the traversal is repeated hop by hop.
+		 *
+		 * @param request must not be {@literal null}.
+		 * @return
+		 * @see #refreshingStaleHops(Function)
+		 */
+		private <T> T traverseAndRequest(Function<URIAndHeaders, T> request) {
+			return refreshingStaleHops(useHopCache -> traverseAndRequest(request, useHopCache));
+		}
+
+		private <T> T traverseAndRequest(Function<URIAndHeaders, T> request, boolean useHopCache) {
+
+			TraversalShortcuts shortcuts = Traverson.this.shortcuts;
+
+			if (shortcuts == null) {
+				return request.apply(traversal.expand(traverse(true, useHopCache)));
+			}
+
+			try {
+
+				Optional<UriStringAndHeaders> shortcut = traverseUsingShortcut(shortcuts, useHopCache);
 
-			URIAndHeaders expandedFinalUriAndHeaders = traverseToExpandedFinalUrl();
-			UriStringAndHeaders finalUriAndHeaders = traverseToFinalUrl();
+				if (shortcut.isPresent()) {
+					return request.apply(traversal.expand(shortcut.get()));
+				}
 
-			return new Link(expandFinalUrl ? expandedFinalUriAndHeaders.getUri().toString() : finalUriAndHeaders.getUri(),
-					this.rels.get(this.rels.size() - 1).getRel());
+			} catch (HttpClientErrorException o_O) {
+
+				if (!isGone(o_O)) {
+					throw o_O;
+				}
+
+				for (int i = 1; i <= traversal.getRels().size(); i++) {
+					shortcuts.evict(getShortcutKey(i));
+				}
+			}
+
+			return request.apply(traversal.expand(traverse(false, useHopCache)));
 		}
 
-		private UriStringAndHeaders traverseToFinalUrl() {
+		/**
+		 * Follows the given rels starting at the given URI and hands the expanded final {@link URI} to the given request.
+		 *
+		 * @param uri must not be {@literal null}.
+		 * @param rels must not be {@literal null}.
+		 * @param extraHeaders must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @return
+		 * @see #refreshingStaleHops(Function)
+		 */
+		private <T> T traverseAndRequest(String uri, List<Hop> rels, HttpHeaders extraHeaders,
+				Function<URIAndHeaders, T> request) {
 
-			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), this.rels.iterator(),
-					HttpHeaders.EMPTY);
-			return new UriStringAndHeaders(new UriTemplate(uriAndHeaders.getUri()).toString(),
-					uriAndHeaders.getHttpHeaders());
+			return refreshingStaleHops(useHopCache -> request
+					.apply(traversal.expand(getAndFindLinkWithRel(uri, rels.listIterator(), extraHeaders, null, useHopCache))));
 		}
 
-		private URIAndHeaders traverseToExpandedFinalUrl() {
+		/**
+		 * Runs the given traversal using the hop cache. If hop caching is enabled and the traversal fails with
+		 * {@code 404 Not Found} or {@code 410 Gone}, one of the cached {@link Link}s might point to a resource that has
+		 * moved or disappeared. The traversal is then repeated once requesting all hops again, which replaces the cached
+		 * {@link Link}s with the ones currently found.
+		 *
+		 * @param traversal must not be {@literal null}, invoked with whether to use the cached {@link Link}s.
+		 * @return
+		 */
+		private <T> T refreshingStaleHops(Function<Boolean, T> traversal) {
+
+			try {
+				return traversal.apply(true);
+			} catch (HttpClientErrorException o_O) {
 
-			UriStringAndHeaders uriAndHeaders = getAndFindLinkWithRel(baseUri.toString(), this.rels.iterator(),
-					HttpHeaders.EMPTY);
-			return new URIAndHeaders(new UriTemplate(uriAndHeaders.getUri()).expand(this.templateParameters),
-					uriAndHeaders.getHttpHeaders());
+				if (hopCache == null || !isGone(o_O)) {
+					throw o_O;
+				}
+
+				return traversal.apply(false);
+			}
 		}
 
-		private UriStringAndHeaders getAndFindLinkWithRel(String uri, Iterator<Hop> rels, HttpHeaders extraHeaders) {
+		private boolean isGone(HttpClientErrorException exception) {
 
-			if (!rels.hasNext()) {
-				return new UriStringAndHeaders(uri, extraHeaders);
+			HttpStatus status = exception.getStatusCode();
+
+			return status == HttpStatus.NOT_FOUND || status == HttpStatus.GONE;
+		}
+
+		/**
+		 * Traverses the configured rels from the base URI, starting with the longest known shortcut if requested.
+		 *
+		 * @param useShortcuts whether to start from a shortcut, if available.
+		 * @param useHopCache whether to use the {@link Link}s cached per hop, if enabled.
+		 * @return
+		 */
+		private UriStringAndHeaders traverse(boolean useShortcuts, boolean useHopCache) {
+
+			TraversalShortcuts shortcuts = Traverson.this.shortcuts;
+
+			if (useShortcuts && shortcuts != null) {
+
+				Optional<UriStringAndHeaders> result = traverseUsingShortcut(shortcuts, useHopCache);
+
+				if (result.isPresent()) {
+					return result.get();
+				}
+			}
+
+			return getAndFindLinkWithRel(baseUri.toString(), traversal.getRels().listIterator(), HttpHeaders.EMPTY,
+					shortcuts, useHopCache);
+		}
+
+		/**
+		 * Continues the traversal from the shortcut registered for the longest prefix of the configured rels.
+		 *
+		 * @param shortcuts must not be {@literal null}.
+		 * @param useHopCache whether to use the {@link Link}s cached per hop, if enabled.
+		 * @return the result of the traversal or {@link Optional#empty()} if no shortcut is available.
+		 */
+		private Optional<UriStringAndHeaders> traverseUsingShortcut(TraversalShortcuts shortcuts, boolean useHopCache) {
+
+			List<Hop> rels = traversal.getRels();
+
+			for (int i = rels.size(); i > 0; i--) {
+
+				int prefix = i;
+				Optional<Shortcut> shortcut = shortcuts.get(getShortcutKey(prefix), //
+						() -> getAndFindLinkWithRel(baseUri.toString(), rels.subList(0, prefix).listIterator(),
+								HttpHeaders.EMPTY, shortcuts, useHopCache));
+
+				if (shortcut.isPresent()) {
+					return shortcut.map(it -> getAndFindLinkWithRel(it.getUri(), rels.listIterator(prefix), it.getHeaders(),
+							shortcuts, useHopCache));
+				}
 			}
 
-			HttpEntity<?> request = prepareRequest(mergeHeaders(this.headers, extraHeaders));
-			UriTemplate template = new UriTemplate(uri);
+			return Optional.empty();
+		}
+
+		/**
+		 * Returns the key of the shortcut for the given number of rels followed from the base URI. Template parameters
+		 * are only considered if one of the hops gets expanded during the traversal.
+		 *
+		 * @param prefix the number of rels followed.
+		 * @return
+		 */
+		private TraversalShortcuts.Key getShortcutKey(int prefix) {
+
+			List<Hop> hops = new ArrayList<>(traversal.getRels().subList(0, prefix));
+			Map<String, Object> parameters = hops.stream().anyMatch(Hop::hasParameters) //
+					? new HashMap<>(traversal.getTemplateParameters()) //
+					: Collections.emptyMap();
 
-			ResponseEntity<String> responseEntity = operations.exchange(template.expand(), GET, request, String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
-			String responseBody = responseEntity.getBody();
+			return new TraversalShortcuts.Key(baseUri.toString(), hops, parameters, traversal.getHeaders());
+		}
+
+		private UriStringAndHeaders getAndFindLinkWithRel(String uri, ListIterator<Hop> rels, HttpHeaders extraHeaders,
+				TraversalShortcuts shortcuts, boolean useHopCache) {
+
+			if (!rels.hasNext()) {
+				return new UriStringAndHeaders(uri, extraHeaders);
+			}
 
+			HttpEntity<?> request = prepareRequest(traversal.mergeHeaders(extraHeaders));
+			URI target = new UriTemplate(uri).expand();
 			Hop thisHop = rels.next();
-			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
 
-			Link link = rel.findInResponse(responseBody, contentType) //
-					.orElseThrow(() -> new IllegalStateException(
-							String.format("Expected to find link with rel '%s' in response %s!", rel, responseBody)));
+			Link link = findLinkWithRel(uri, target, thisHop, request, useHopCache);
 
 			/*
 			 * Don't expand if the parameters are empty
 			 */
-			if (!thisHop.hasParameters()) {
-				return getAndFindLinkWithRel(link.getHref(), rels, thisHop.getHeaders());
+			String next = !thisHop.hasParameters() //
+					? link.getHref() //
+					: link.expand(thisHop.getMergedParameters(traversal.getTemplateParameters())).getHref();
+
+			if (shortcuts != null) {
+				shortcuts.put(getShortcutKey(rels.nextIndex()), next, thisHop.getHeaders());
+			}
+
+			return getAndFindLinkWithRel(next, rels, thisHop.getHeaders(), shortcuts, useHopCache);
+		}
+
+		/**
+		 * Looks up the {@link Link} for the given {@link Hop} in the resource identified by the given {@link URI} and
+		 * notifies the registered {@link HopListener}s, if any.
+		 *
+		 * @param uri the URI (template) the given target was expanded from, must not be {@literal null}.
+		 * @param target must not be {@literal null}.
+		 * @param hop must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @param useHopCache whether to use the {@link Link}s cached per hop, if enabled.
+		 * @return
+		 */
+		private Link findLinkWithRel(String uri, URI target, Hop hop, HttpEntity<?> request, boolean useHopCache) {
+
+			List<HopListener> listeners = hopListeners;
+
+			if (listeners.isEmpty()) {
+				return findLinkWithRel(target, hop, request, null, useHopCache);
+			}
+
+			for (HopListener listener : listeners) {
+				notify(listener, it -> it.beforeHop(hop.getRel(), target));
+			}
+
+			HopRecorder recorder = new HopRecorder();
+			Throwable failure = null;
+
+			try {
+				return findLinkWithRel(target, hop, request, recorder, useHopCache);
+			} catch (RuntimeException | Error o_O) {
+
+				failure = o_O;
+
+				if (o_O instanceof HttpStatusCodeException) {
+
+					HttpStatusCodeException exception = (HttpStatusCodeException) o_O;
+
+					recorder.received(exception.getRawStatusCode(), HopEvent.Source.NETWORK);
+					recorder.read(exception.getResponseBodyAsByteArray().length);
+				}
+
+				throw o_O;
+
+			} finally {
+
+				HopEvent event = recorder.toEvent(hop.getRel(), uri, target, failure);
+
+				for (HopListener listener : listeners) {
+					notify(listener, it -> it.afterHop(event));
+				}
+			}
+		}
+
+		/**
+		 * Invokes the given callback on the given {@link HopListener}, logging exceptions thrown by it so that listeners
+		 * cannot change the outcome of a traversal.
+		 *
+		 * @param listener must not be {@literal null}.
+		 * @param callback must not be {@literal null}.
+		 */
+		private void notify(HopListener listener, Consumer<HopListener> callback) {
+
+			try {
+				callback.accept(listener);
+			} catch (RuntimeException o_O) {
+				LOG.warn("HopListener {} failed!", listener, o_O);
+			}
+		}
+
+		/**
+		 * Looks up the {@link Link} for the given {@link Hop} in the resource identified by the given {@link URI}, using
+		 * the hop cache if enabled.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param hop must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @param recorder can be {@literal null}.
+		 * @param useHopCache whether to use a cached {@link Link}. If not, the resource is requested and the cached
+		 *          {@link Link} replaced.
+		 * @return
+		 */
+		private Link findLinkWithRel(URI target, Hop hop, HttpEntity<?> request, HopRecorder recorder,
+				boolean useHopCache) {
+
+			Map<HopCacheKey, Link> cache = hopCache;
+
+			if (cache == null) {
+				return getAndFindLinkWithRel(target, hop, request, recorder);
+			}
+
+			HopCacheKey key = new HopCacheKey(target, hop.getRel(), request.getHeaders());
+			Link link = useHopCache ? cache.get(key) : null;
+
+			if (link == null) {
+				link = getAndFindLinkWithRel(target, hop, request, recorder);
+				cache.put(key, link);
+			} else if (recorder != null) {
+				recorder.received(0, HopEvent.Source.HOP_CACHE);
+			}
+
+			return link;
+		}
+
+		private Link getAndFindLinkWithRel(URI target, Hop hop, HttpEntity<?> request, HopRecorder recorder) {
+
+			Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+			TraversonCache cache = Traverson.this.cache;
+
+			if (cache == null) {
+
+				Optional<Link> link = operations.execute(target, GET, toCallback(request), response -> {
+
+					if (recorder == null) {
+						return rel.findInResponse(response.getBody(), response.getHeaders().getContentType());
+					}
+
+					recorder.received(response.getRawStatusCode(), HopEvent.Source.NETWORK);
+
+					CountingInputStream body = new CountingInputStream(response.getBody());
+					long start = System.nanoTime();
+
+					try {
+						return rel.findInResponse(body, response.getHeaders().getContentType());
+					} finally {
+
+						recorder.discovered(start);
+
+						body.close();
+						recorder.read(body.getCount());
+					}
+				});
+
+				return link.orElseThrow(() -> new IllegalStateException(
+						String.format("Expected to find link with rel '%s' in response from %s!", rel, target)));
+			}
+
+			CachedResponse response = getResponse(target, request, cache, recorder);
+			long start = recorder == null ? 0 : System.nanoTime();
+
+			try {
+
+				return response.findLink(hop.getRel(), it -> rel.findInResponse(it.getBody(), it.getContentType())) //
+						.orElseGet(() -> findRequiredLink(rel, response.getBody(), response.getContentType()));
+
+			} finally {
+
+				if (recorder != null) {
+					recorder.discovered(start);
+				}
+			}
+		}
+
+		/**
+		 * Returns the response for the given {@link URI}, either from the given {@link TraversonCache} if still fresh,
+		 * after revalidating the cached one or by requesting the resource.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @param cache must not be {@literal null}.
+		 * @param recorder can be {@literal null}.
+		 * @return
+		 */
+		private CachedResponse getResponse(URI target, HttpEntity<?> request, TraversonCache cache,
+				HopRecorder recorder) {
+
+			HttpHeaders headers = request.getHeaders();
+			Optional<CachedResponse> cached = cache.get(target, headers);
+
+			if (cached.filter(it -> it.isFresh(System.currentTimeMillis())).isPresent()) {
+
+				if (recorder != null) {
+					recorder.received(0, HopEvent.Source.RESPONSE_CACHE);
+				}
+
+				return cached.get();
+			}
+
+			HttpEntity<?> toSend = cached.filter(CachedResponse::canBeRevalidated) //
+					.map(it -> it.addConditionalHeaders(Traversal.mergeHeaders(headers, HttpHeaders.EMPTY))) //
+					.<HttpEntity<?>> map(HttpEntity<Void>::new) //
+					.orElse(request);
+
+			ResponseEntity<String> responseEntity = operations.execute(target, GET, toCallback(toSend),
+					response -> toResponseEntity(response, recorder));
+			long received = System.currentTimeMillis();
+			boolean notModified = responseEntity.getStatusCode() == HttpStatus.NOT_MODIFIED && cached.isPresent();
+
+			if (recorder != null) {
+				recorder.received(responseEntity.getStatusCodeValue(),
+						notModified ? HopEvent.Source.REVALIDATED : HopEvent.Source.NETWORK);
+			}
+
+			if (notModified) {
+
+				CachedResponse revalidated = cached.get().revalidated(responseEntity, received);
+				cache.put(target, headers, revalidated);
+
+				return revalidated;
+			}
+
+			CachedResponse response = CachedResponse.of(responseEntity, received);
+
+			if (response.isCacheable(received)) {
+				cache.put(target, headers, response);
 			} else {
-				return getAndFindLinkWithRel(link.expand(thisHop.getMergedParameters(this.templateParameters)).getHref(), rels,
-						thisHop.getHeaders());
+				cache.evict(target, headers);
 			}
+
+			return response;
 		}
 
 		/**
-		 * Combine two sets of {@link HttpHeaders} into one.
+		 * Reads the given {@link ClientHttpResponse} into a {@link ResponseEntity} with a {@link String} body decoded using
+		 * the charset of the response's content type or UTF-8 if none is given. Records the number of bytes read with the
+		 * given {@link HopRecorder}.
 		 *
-		 * @param headersA
-		 * @param headersB
+		 * @param response must not be {@literal null}.
+		 * @param recorder can be {@literal null}.
 		 * @return
+		 * @throws IOException
 		 */
-		private HttpHeaders mergeHeaders(HttpHeaders headersA, HttpHeaders headersB) {
+		private ResponseEntity<String> toResponseEntity(ClientHttpResponse response, HopRecorder recorder)
+				throws IOException {
+
+			MediaType contentType = response.getHeaders().getContentType();
+			Charset charset = contentType == null || contentType.getCharset() == null //
+					? StandardCharsets.UTF_8 //
+					: contentType.getCharset();
+
+			CountingInputStream stream = new CountingInputStream(response.getBody());
+			String body = StreamUtils.copyToString(stream, charset);
+
+			if (recorder != null) {
+				recorder.read(stream.getCount());
+			}
 
-			HttpHeaders mergedHeaders = new HttpHeaders();
+			return new ResponseEntity<>(stream.getCount() == 0 ? null : body, response.getHeaders(),
+					response.getStatusCode());
+		}
 
-			mergedHeaders.addAll(headersA);
-			mergedHeaders.addAll(headersB);
+		private Link findRequiredLink(Rel rel, String responseBody, MediaType contentType) {
 
-			return mergedHeaders;
+			return rel.findInResponse(responseBody, contentType) //
+					.orElseThrow(() -> new IllegalStateException(
+							String.format("Expected to find link with rel '%s' in response %s!", rel, responseBody)));
 		}
 	}
 
 	/**
-	 * Temporary container for a string-base {@literal URI} and {@link HttpHeaders}.
+	 * Builder API to continue a traversal for each of the links found for a relation. The individual traversals are
+	 * executed concurrently on the configured {@link Executor}, which defaults to a bounded pool of daemon threads shared
+	 * by all {@link Traverson} instances and created on first use. The results are returned in the order of the links
+	 * they originate from.
+	 *
+	 * @author agent
+	 * @since 1.0
+	 * @see TraversalBuilder#followEach(String)
 	 */
-	@Value
-	@RequiredArgsConstructor
-	private static class UriStringAndHeaders {
+	public class FanOutTraversalBuilder {
+
+		private final TraversalBuilder parent;
+		private final Hop hop;
+		private final List<Hop> rels = new ArrayList<>();
+		private Executor executor;
+		private Duration timeout;
+
+		private FanOutTraversalBuilder(TraversalBuilder parent, Hop hop) {
+
+			this.parent = parent;
+			this.hop = hop;
+		}
+
+		/**
+		 * Follows the given rels one by one for each of the links the traversal fans out to.
+		 *
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		public FanOutTraversalBuilder follow(String... rels) {
+
+			Assert.notNull(rels, "Rels must not be null!");
+
+			for (String rel : rels) {
+				this.rels.add(Hop.rel(rel));
+			}
+
+			return this;
+		}
+
+		/**
+		 * Follows the given {@link Hop} for each of the links the traversal fans out to.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 */
+		public FanOutTraversalBuilder follow(Hop hop) {
+
+			Assert.notNull(hop, "Hop must not be null!");
+
+			this.rels.add(hop);
+
+			return this;
+		}
+
+		/**
+		 * Configures the {@link Executor} to run the individual traversals on. The executor determines the concurrency
+		 * applied, e.g. a fixed size thread pool limits the number of traversals running in parallel. An executor running
+		 * the traversals on the calling thread (e.g. {@code Runnable::run}) executes them one after another, in which case
+		 * a timeout is only detected once the traversal exceeding it has completed. If the executor rejects a traversal,
+		 * the ones submitted before are skipped and the {@link java.util.concurrent.RejectedExecutionException} is
+		 * rethrown.
+		 *
+		 * @param executor must not be {@literal null}.
+		 * @return
+		 */
+		public FanOutTraversalBuilder withExecutor(Executor executor) {
+
+			Assert.notNull(executor, "Executor must not be null!");
+
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * Configures the time each of the individual traversals is allowed to take, measured from the point it is
+		 * submitted to the {@link Executor}, so that time spent waiting for a thread counts as well. If a traversal
+		 * exceeds the timeout, a {@link ResourceAccessException} is thrown and the traversals that have not started yet
+		 * are skipped. Traversals already running are abandoned but not aborted, as the
+		 * underlying {@link RestOperations} calls cannot be interrupted. Configure read timeouts on the HTTP client to
+		 * release the threads they run on.
+		 *
+		 * @param timeout must not be {@literal null} or negative.
+		 * @return
+		 */
+		public FanOutTraversalBuilder withTimeout(Duration timeout) {
+
+			Assert.notNull(timeout, "Timeout must not be null!");
+			Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative!");
+
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Executes the traversals and marshals the final responses into objects of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> List<T> toObjects(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
 
-		private final String uri;
-		private final HttpHeaders httpHeaders;
+			return traverse(it -> operations.exchange(it.getUri(), GET, prepareFinalRequest(it), type).getBody());
+		}
+
+		/**
+		 * Executes the traversals and marshals the final responses into objects of the given
+		 * {@link ParameterizedTypeReference}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> List<T> toObjects(ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			return traverse(it -> operations.exchange(it.getUri(), GET, prepareFinalRequest(it), type).getBody());
+		}
+
+		/**
+		 * Executes the traversals and returns the results of the given JSON Path expression evaluated against the final
+		 * representations.
+		 *
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return
+		 */
+		public <T> List<T> toObjects(String jsonPath) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+			return traverse(it -> {
+
+				return operations.execute(it.getUri(), GET, toCallback(prepareFinalRequest(it)),
+						response -> JsonPath.parse(response.getBody()).<T> read(jsonPath));
+			});
+		}
+
+		/**
+		 * Returns the expanded {@link Link}s found for the last rel of each of the traversals.
+		 *
+		 * @return
+		 */
+		public List<Link> asLinks() {
+
+			String rel = rels.isEmpty() ? hop.getRel() : rels.get(rels.size() - 1).getRel();
+
+			return traverse(it -> new Link(it.getUri().toString(), rel));
+		}
+
+		private HttpEntity<?> prepareFinalRequest(URIAndHeaders uriAndHeaders) {
+			return prepareRequest(parent.traversal.mergeHeaders(uriAndHeaders.getHttpHeaders()));
+		}
+
+		private <T> List<T> traverse(Function<URIAndHeaders, T> finalStep) {
+
+			List<String> uris = findFanOutUris();
+			List<Supplier<T>> traversals = uris.stream() //
+					.<Supplier<T>> map(uri -> () -> parent.traverseAndRequest(uri, rels, hop.getHeaders(), finalStep)) //
+					.collect(Collectors.toList());
+
+			Executor executor = this.executor != null ? this.executor : DefaultFanOutExecutor.INSTANCE;
+
+			return ExecutorUtils.invokeAll(traversals, executor, timeout, //
+					() -> new ResourceAccessException(String.format("Traversal of %s timed out after %s!", uris, timeout)), //
+					"traversals");
+		}
+
+		/**
+		 * Traverses to the resource to fan out from and returns the URIs of all links found for the fan out relation.
+		 *
+		 * @return
+		 */
+		private List<String> findFanOutUris() {
+
+			Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+			Links links = parent.traverseAndRequest(uriAndHeaders -> {
+
+				HttpEntity<?> request = prepareRequest(parent.traversal.mergeHeaders(uriAndHeaders.getHttpHeaders()));
+				return operations.execute(uriAndHeaders.getUri(), GET, toCallback(request),
+						response -> rel.findAllInResponse(response.getBody(), response.getHeaders().getContentType()));
+			});
+
+			return links.stream() //
+					.map(it -> hop.hasParameters() //
+							? it.expand(hop.getMergedParameters(parent.traversal.getTemplateParameters())).getHref() //
+							: it.getHref()) //
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Holder for the default {@link Executor} of fan-out traversals so that it's only created once needed.
+	 */
+	private static class DefaultFanOutExecutor {
+		static final Executor INSTANCE = createFanOutExecutor();
+	}
+
+	/**
+	 * Mutable collector for the measurements of a single hop reported to {@link HopListener}s. Only created if listeners
+	 * are registered.
+	 */
+	private static class HopRecorder {
+
+		private final long start = System.nanoTime();
+
+		private int status;
+		private long responseSize = -1;
+		private long discoveryNanos;
+		private HopEvent.Source source = HopEvent.Source.NETWORK;
+
+		void received(int status, HopEvent.Source source) {
+
+			this.status = status;
+			this.source = source;
+		}
+
+		void read(long responseSize) {
+			this.responseSize = responseSize;
+		}
+
+		void discovered(long start) {
+			this.discoveryNanos += System.nanoTime() - start;
+		}
+
+		HopEvent toEvent(String rel, String uriTemplate, URI uri, Throwable failure) {
+			return new HopEvent(rel, uriTemplate, uri, status, responseSize, System.nanoTime() - start, discoveryNanos,
+					source, failure);
+		}
+	}
+
+	/**
+	 * {@link FilterInputStream} counting the bytes read from the underlying {@link InputStream}. Consumes the bytes not
+	 * read yet when closed, so that the count reflects the entire body even if a reader stops early.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		private long count;
+		private boolean closed;
+
+		CountingInputStream(InputStream delegate) {
+			super(delegate);
+		}
+
+		long getCount() {
+			return count;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read()
+		 */
+		@Override
+		public int read() throws IOException {
+
+			int result = super.read();
+
+			if (result != -1) {
+				count++;
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#read(byte[], int, int)
+		 */
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+
+			int result = super.read(buffer, offset, length);
+
+			if (result != -1) {
+				count += result;
+			}
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#skip(long)
+		 */
+		@Override
+		public long skip(long n) throws IOException {
+
+			long result = super.skip(n);
+			count += result;
+
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+
+			if (closed) {
+				return;
+			}
+
+			closed = true;
+
+			try {
+				StreamUtils.drain(this);
+			} catch (IOException o_O) {
+				// Best effort only, the count then reflects the bytes read so far
+			} finally {
+				super.close();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#markSupported()
+		 */
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
 	}
 
 	/**
-	 * Temporary container for a {@link URI}-based {@literal URI} and {@link HttpHeaders}.
+	 * Key for the {@link Link}s cached per hop, consisting of the {@link URI} of the resource, the relation looked up
+	 * and the {@link HttpHeaders} sent to retrieve the resource.
 	 */
 	@Value
 	@RequiredArgsConstructor
-	private static class URIAndHeaders {
+	private static class HopCacheKey {
 
 		private final URI uri;
-		private final HttpHeaders httpHeaders;
+		private final String rel;
+		private final HttpHeaders headers;
 	}
 }
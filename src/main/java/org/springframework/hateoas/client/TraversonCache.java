@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.net.URI;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * SPI to plug a cache for the responses of the intermediate resources requested by a {@link Traverson}. Implementations
+ * only store {@link CachedResponse}s, freshness and revalidation are handled by {@link Traverson} itself.
+ *
+ * @author agent
+ * @since 1.0
+ * @see InMemoryTraversonCache
+ * @see Traverson#setCache(TraversonCache)
+ */
+public interface TraversonCache {
+
+	/**
+	 * Returns the {@link CachedResponse} stored for the given {@link URI} and request {@link HttpHeaders}.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers the headers used to request the resource, must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	Optional<CachedResponse> get(URI uri, HttpHeaders headers);
+
+	/**
+	 * Stores the given {@link CachedResponse} for the given {@link URI} and request {@link HttpHeaders}.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers the headers used to request the resource, must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 */
+	void put(URI uri, HttpHeaders headers, CachedResponse response);
+
+	/**
+	 * Removes the {@link CachedResponse} stored for the given {@link URI} and request {@link HttpHeaders}, if any.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param headers the headers used to request the resource, must not be {@literal null}.
+	 */
+	void evict(URI uri, HttpHeaders headers);
+
+	/**
+	 * Removes all cached responses.
+	 */
+	void clear();
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Temporary container for a {@link URI}-based {@literal URI} and {@link HttpHeaders}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Value
+@RequiredArgsConstructor
+class URIAndHeaders {
+
+	private final URI uri;
+	private final HttpHeaders httpHeaders;
+}
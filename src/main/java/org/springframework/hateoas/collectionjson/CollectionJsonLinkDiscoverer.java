@@ -15,17 +15,14 @@
  */
 package org.springframework.hateoas.collectionjson;
 
-import java.io.InputStream;
-import java.util.Optional;
-
 import org.springframework.hateoas.IanaLinkRelations;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
-import org.springframework.util.Assert;
+
+import com.jayway.jsonpath.DocumentContext;
 
 /**
  * {@link LinkDiscoverer} implementation based on JSON Collection link structure. NOTE: Since links can appear in two
@@ -47,88 +44,16 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
-	 */
-	@Override
-	public Optional<Link> findLinkWithRel(LinkRelation relation, String representation) {
-
-		Assert.notNull(relation, "LinkRelation must not be null!");
-		Assert.notNull(representation, "Representation must not be null!");
-
-		return relation.isSameAs(IanaLinkRelations.SELF) //
-				? findSelfLink(representation) //
-				: super.findLinkWithRel(relation, representation);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(java.lang.String, java.io.InputStream)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, com.jayway.jsonpath.DocumentContext)
 	 */
 	@Override
-	public Optional<Link> findLinkWithRel(LinkRelation relation, InputStream representation) {
-
-		Assert.notNull(relation, "LinkRelation must not be null!");
-		Assert.notNull(representation, "InputStream must not be null!");
-
-		return relation.isSameAs(IanaLinkRelations.SELF) //
-				? findSelfLink(representation) //
-				: super.findLinkWithRel(relation, representation);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
-	 */
-	@Override
-	public Links findLinksWithRel(LinkRelation relation, String representation) {
-
-		Assert.notNull(relation, "LinkRelation must not be null!");
-		Assert.notNull(representation, "Representation must not be null!");
+	protected Links findLinksWithRel(LinkRelation relation, DocumentContext document) {
 
-		return relation.isSameAs(IanaLinkRelations.SELF) //
-				? addSelfLink(super.findLinksWithRel(relation, representation), representation) //
-				: super.findLinksWithRel(relation, representation);
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
-	 */
-	@Override
-	public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+		Links links = super.findLinksWithRel(relation, document);
 
 		return relation.isSameAs(IanaLinkRelations.SELF) //
-				? addSelfLink(super.findLinksWithRel(relation, representation), representation) //
-				: super.findLinksWithRel(relation, representation);
-
-	}
-
-	//
-	// Internal methods to support discovering the "self" link found at "$.collection.href".
-	//
-
-	private Optional<Link> findSelfLink(String representation) {
-		return this.selfLinkDiscoverer.findLinkWithRel(IanaLinkRelations.SELF, representation);
-	}
-
-	private Optional<Link> findSelfLink(InputStream representation) {
-		return this.selfLinkDiscoverer.findLinkWithRel(IanaLinkRelations.SELF, representation);
-	}
-
-	private Links addSelfLink(Links links, String representation) {
-
-		return findSelfLink(representation) //
-				.map(Links::of) //
-				.map(it -> it.and(links)) //
-				.orElseGet(() -> links);
-	}
-
-	private Links addSelfLink(Links links, InputStream representation) {
-
-		return findSelfLink(representation) //
-				.map(Links::of) //
-				.map(it -> it.and(links)) //
-				.orElseGet(() -> links);
+				? selfLinkDiscoverer.findSelfLinks(document).and(links) //
+				: links;
 	}
 
 	/**
@@ -139,5 +64,15 @@ public class CollectionJsonLinkDiscoverer extends JsonPathLinkDiscoverer {
 		CollectionJsonSelfLinkDiscoverer() {
 			super("$.collection.href", MediaTypes.COLLECTION_JSON);
 		}
+
+		/**
+		 * Looks up the {@literal self} link in the given, already parsed document.
+		 *
+		 * @param document must not be {@literal null}.
+		 * @return
+		 */
+		private Links findSelfLinks(DocumentContext document) {
+			return findLinksWithRel(IanaLinkRelations.SELF, document);
+		}
 	}
 }
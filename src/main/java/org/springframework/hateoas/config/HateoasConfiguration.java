@@ -16,6 +16,8 @@
 package org.springframework.hateoas.config;
 
 import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -28,12 +30,17 @@ import org.springframework.hateoas.core.AnnotationRelProvider;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
+import org.springframework.hateoas.hal.CurieProvider;
+import org.springframework.hateoas.hal.HalConfiguration;
+import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.plugin.core.config.EnablePluginRegistries;
 import org.springframework.plugin.core.support.PluginRegistryFactoryBean;
 import org.springframework.util.ClassUtils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Common HATEOAS specific configuration.
  *
@@ -46,6 +53,8 @@ import org.springframework.util.ClassUtils;
 @EnablePluginRegistries({ LinkDiscoverer.class })
 class HateoasConfiguration {
 
+	private static final String MESSAGE_SOURCE_BEAN_NAME = "linkRelationMessageSource";
+
 	/**
 	 * The {@link MessageSourceAccessor} to provide messages for {@link ResourceDescription}s being rendered.
 	 * 
@@ -66,6 +75,19 @@ class HateoasConfiguration {
 		}
 	}
 
+	// Hypermedia ObjectMappers
+
+	@Bean
+	HypermediaObjectMappers hypermediaObjectMappers(ObjectProvider<ObjectMapper> mapper, DelegatingRelProvider relProvider,
+			ObjectProvider<CurieProvider> curieProvider, ObjectProvider<HalConfiguration> halConfiguration,
+			ObjectProvider<HalFormsConfiguration> halFormsConfiguration, BeanFactory beanFactory) {
+
+		return new HypermediaObjectMappers(mapper.getIfAvailable(ObjectMapper::new), relProvider,
+				curieProvider.getIfAvailable(), halConfiguration.getIfAvailable(HalConfiguration::new),
+				halFormsConfiguration.getIfAvailable(HalFormsConfiguration::new),
+				() -> beanFactory.getBean(MESSAGE_SOURCE_BEAN_NAME, MessageSourceAccessor.class));
+	}
+
 	// RelProvider
 
 	@Bean
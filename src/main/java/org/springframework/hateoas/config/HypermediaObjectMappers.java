@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.springframework.hateoas.config.HypermediaObjectMapperCreator.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.core.DefaultRelProvider;
+import org.springframework.hateoas.hal.CurieProvider;
+import org.springframework.hateoas.hal.HalConfiguration;
+import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Registry of the {@link ObjectMapper}s to render and read the individual {@link HypermediaType}s. Every mapper is
+ * created once, on first access, so that all integration points (Spring MVC, Spring WebFlux, {@code RestTemplate},
+ * {@code WebClient}) share the same mapper and thus its serializer and deserializer caches per hypermedia type.
+ *
+ * @author agent
+ * @since 1.0
+ * @see HypermediaObjectMapperCreator
+ */
+public class HypermediaObjectMappers {
+
+	private static final Map<HypermediaType, List<MediaType>> MEDIA_TYPES;
+
+	static {
+
+		Map<HypermediaType, List<MediaType>> mediaTypes = new EnumMap<>(HypermediaType.class);
+
+		mediaTypes.put(HypermediaType.HAL, Arrays.asList(MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8));
+		mediaTypes.put(HypermediaType.HAL_FORMS, Collections.singletonList(MediaTypes.HAL_FORMS_JSON));
+		mediaTypes.put(HypermediaType.COLLECTION_JSON, Collections.singletonList(MediaTypes.COLLECTION_JSON));
+		mediaTypes.put(HypermediaType.UBER, Collections.singletonList(MediaTypes.UBER_JSON));
+
+		MEDIA_TYPES = Collections.unmodifiableMap(mediaTypes);
+	}
+
+	private final ObjectMapper mapper;
+	private final RelProvider relProvider;
+	private final CurieProvider curieProvider;
+	private final HalConfiguration halConfiguration;
+	private final HalFormsConfiguration halFormsConfiguration;
+	private final Supplier<MessageSourceAccessor> linkRelationMessageSource;
+	private final Map<HypermediaType, ObjectMapper> mappers = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} deriving the hypermedia specific {@link ObjectMapper}s from the given
+	 * one using default configuration, e.g. for use outside of an application context.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static HypermediaObjectMappers of(ObjectMapper mapper) {
+		return new HypermediaObjectMappers(mapper, new DefaultRelProvider(), null, new HalConfiguration(),
+				new HalFormsConfiguration(), () -> null);
+	}
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} deriving the hypermedia specific {@link ObjectMapper}s from the given
+	 * one.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param relProvider must not be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 * @param halConfiguration must not be {@literal null}.
+	 * @param halFormsConfiguration must not be {@literal null}.
+	 * @param linkRelationMessageSource can be {@literal null}.
+	 */
+	public HypermediaObjectMappers(ObjectMapper mapper, RelProvider relProvider, CurieProvider curieProvider,
+			HalConfiguration halConfiguration, HalFormsConfiguration halFormsConfiguration,
+			MessageSourceAccessor linkRelationMessageSource) {
+		this(mapper, relProvider, curieProvider, halConfiguration, halFormsConfiguration, () -> linkRelationMessageSource);
+	}
+
+	/**
+	 * Creates a new {@link HypermediaObjectMappers} looking up the {@link MessageSourceAccessor} for link relations
+	 * lazily, i.e. not before the first mapper is created.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @param relProvider must not be {@literal null}.
+	 * @param curieProvider can be {@literal null}.
+	 * @param halConfiguration must not be {@literal null}.
+	 * @param halFormsConfiguration must not be {@literal null}.
+	 * @param linkRelationMessageSource must not be {@literal null}.
+	 */
+	HypermediaObjectMappers(ObjectMapper mapper, RelProvider relProvider, CurieProvider curieProvider,
+			HalConfiguration halConfiguration, HalFormsConfiguration halFormsConfiguration,
+			Supplier<MessageSourceAccessor> linkRelationMessageSource) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(relProvider, "RelProvider must not be null!");
+		Assert.notNull(halConfiguration, "HalConfiguration must not be null!");
+		Assert.notNull(halFormsConfiguration, "HalFormsConfiguration must not be null!");
+		Assert.notNull(linkRelationMessageSource, "MessageSourceAccessor supplier must not be null!");
+
+		this.mapper = mapper;
+		this.relProvider = relProvider;
+		this.curieProvider = curieProvider;
+		this.halConfiguration = halConfiguration;
+		this.halFormsConfiguration = halFormsConfiguration;
+		this.linkRelationMessageSource = linkRelationMessageSource;
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} for the given {@link HypermediaType}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public ObjectMapper getObjectMapper(HypermediaType type) {
+
+		Assert.notNull(type, "Hypermedia type must not be null!");
+
+		return mappers.computeIfAbsent(type, this::createObjectMapper);
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} for the {@link HypermediaType} using the given {@link MediaType}.
+	 *
+	 * @param mediaType must not be {@literal null}.
+	 * @return the {@link ObjectMapper} or {@link Optional#empty()} if the given {@link MediaType} is not a hypermedia
+	 *         type.
+	 */
+	public Optional<ObjectMapper> getObjectMapper(MediaType mediaType) {
+		return getHypermediaType(mediaType).map(this::getObjectMapper);
+	}
+
+	/**
+	 * Drops all {@link ObjectMapper}s created so far so that they're re-created on next access, e.g. after the source
+	 * {@link ObjectMapper} was reconfigured. Components already holding on to an {@link ObjectMapper} keep using it.
+	 */
+	public void refresh() {
+		mappers.clear();
+	}
+
+	/**
+	 * Returns the {@link MediaType}s used by the given {@link HypermediaType}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static List<MediaType> getMediaTypes(HypermediaType type) {
+
+		Assert.notNull(type, "Hypermedia type must not be null!");
+
+		return MEDIA_TYPES.get(type);
+	}
+
+	/**
+	 * Returns the {@link HypermediaType} using the given {@link MediaType}, ignoring its parameters.
+	 *
+	 * @param mediaType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static Optional<HypermediaType> getHypermediaType(MediaType mediaType) {
+
+		Assert.notNull(mediaType, "Media type must not be null!");
+
+		return MEDIA_TYPES.entrySet().stream() //
+				.filter(it -> it.getValue().stream().anyMatch(mediaType::equalsTypeAndSubtype)) //
+				.map(Map.Entry::getKey) //
+				.findFirst();
+	}
+
+	private ObjectMapper createObjectMapper(HypermediaType type) {
+
+		switch (type) {
+			case HAL:
+				return createHalObjectMapper(mapper, curieProvider, relProvider, linkRelationMessageSource.get(),
+						halConfiguration);
+			case HAL_FORMS:
+				return createHalFormsObjectMapper(mapper, curieProvider, relProvider, linkRelationMessageSource.get(),
+						halFormsConfiguration);
+			case COLLECTION_JSON:
+				return createCollectionJsonObjectMapper(mapper);
+			case UBER:
+				return createUberObjectMapper(mapper);
+			default:
+				throw new IllegalStateException(String.format("Unsupported hypermedia type %s!", type));
+		}
+	}
+}
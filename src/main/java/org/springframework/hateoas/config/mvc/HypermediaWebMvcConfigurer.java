@@ -15,29 +15,21 @@
  */
 package org.springframework.hateoas.config.mvc;
 
-import static org.springframework.hateoas.MediaTypes.*;
-import static org.springframework.hateoas.config.HypermediaObjectMapperCreator.*;
-
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
-import org.springframework.hateoas.core.DelegatingRelProvider;
-import org.springframework.hateoas.hal.CurieProvider;
-import org.springframework.hateoas.hal.HalConfiguration;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
 import org.springframework.hateoas.hal.Jackson2HalModule;
-import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
-import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.hateoas.mvc.HypermediaMappingJackson2HttpMessageConverter;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
@@ -51,28 +43,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 @Configuration
 @RequiredArgsConstructor
-public class HypermediaWebMvcConfigurer implements WebMvcConfigurer, BeanFactoryAware {
+public class HypermediaWebMvcConfigurer implements WebMvcConfigurer {
 
-	private static final String MESSAGE_SOURCE_BEAN_NAME = "linkRelationMessageSource";
+	/**
+	 * The order in which the media types of the individual hypermedia types are preferred.
+	 */
+	private static final List<HypermediaType> PREFERENCE = Arrays.asList(HypermediaType.UBER,
+			HypermediaType.COLLECTION_JSON, HypermediaType.HAL_FORMS, HypermediaType.HAL);
 
-	private final ObjectMapper mapper;
-	private final DelegatingRelProvider relProvider;
-	private final CurieProvider curieProvider;
-	private final HalConfiguration halConfiguration;
-	private final HalFormsConfiguration halFormsConfiguration;
+	private final HypermediaObjectMappers mappers;
 	private final Collection<HypermediaType> hypermediaTypes;
 
-	private BeanFactory beanFactory;
-
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.beans.factory.BeanFactoryAware#setBeanFactory(org.springframework.beans.factory.BeanFactory)
-	 */
-	@Override
-	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
-		this.beanFactory = beanFactory;
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.config.annotation.WebMvcConfigurer#extendMessageConverters(java.util.List)
@@ -80,44 +61,28 @@ public class HypermediaWebMvcConfigurer implements WebMvcConfigurer, BeanFactory
 	@Override
 	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
 
-		if (converters.stream().filter(MappingJackson2HttpMessageConverter.class::isInstance)
-				.filter(AbstractJackson2HttpMessageConverter.class::isInstance)
-				.map(AbstractJackson2HttpMessageConverter.class::cast)
-				.map(AbstractJackson2HttpMessageConverter::getObjectMapper)
-				.anyMatch(Jackson2HalModule::isAlreadyRegisteredIn)) {
+		if (converters.stream().anyMatch(HypermediaMappingJackson2HttpMessageConverter.class::isInstance)
+				|| converters.stream().filter(MappingJackson2HttpMessageConverter.class::isInstance)
+						.map(AbstractJackson2HttpMessageConverter.class::cast)
+						.map(AbstractJackson2HttpMessageConverter::getObjectMapper)
+						.anyMatch(Jackson2HalModule::isAlreadyRegisteredIn)) {
 
 			return;
 		}
 
-		MessageSourceAccessor linkRelationMessageSource = this.beanFactory.getBean(MESSAGE_SOURCE_BEAN_NAME,
-				MessageSourceAccessor.class);
-
-		if (this.hypermediaTypes.contains(HypermediaType.HAL)) {
+		Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
 
-			converters.add(0,
-					new TypeConstrainedMappingJackson2HttpMessageConverter(ResourceSupport.class,
-							Arrays.asList(HAL_JSON, HAL_JSON_UTF8), createHalObjectMapper(this.mapper, this.curieProvider,
-									this.relProvider, linkRelationMessageSource, this.halConfiguration)));
-		}
+		for (HypermediaType type : PREFERENCE) {
 
-		if (this.hypermediaTypes.contains(HypermediaType.HAL_FORMS)) {
+			if (this.hypermediaTypes.contains(type)) {
 
-				converters.add(0, new TypeConstrainedMappingJackson2HttpMessageConverter(
-					ResourceSupport.class, Collections.singletonList(HAL_FORMS_JSON),
-					createHalFormsObjectMapper(this.mapper, this.curieProvider, this.relProvider, linkRelationMessageSource,
-						this.halFormsConfiguration)));
+				ObjectMapper mapper = this.mappers.getObjectMapper(type);
+				HypermediaObjectMappers.getMediaTypes(type).forEach(it -> mappers.put(it, mapper));
+			}
 		}
 
-		if (this.hypermediaTypes.contains(HypermediaType.COLLECTION_JSON)) {
-
-			converters.add(0, new TypeConstrainedMappingJackson2HttpMessageConverter(ResourceSupport.class,
-					Arrays.asList(COLLECTION_JSON), createCollectionJsonObjectMapper(this.mapper)));
-		}
-
-		if (this.hypermediaTypes.contains(HypermediaType.UBER)) {
-
-			converters.add(0, new TypeConstrainedMappingJackson2HttpMessageConverter(
-				ResourceSupport.class, Collections.singletonList(UBER_JSON), createUberObjectMapper(this.mapper)));
+		if (!mappers.isEmpty()) {
+			converters.add(0, new HypermediaMappingJackson2HttpMessageConverter(ResourceSupport.class, mappers));
 		}
 	}
 }
@@ -17,16 +17,10 @@ package org.springframework.hateoas.config.mvc;
 
 import java.util.Collection;
 
-import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
-import org.springframework.hateoas.core.DelegatingRelProvider;
-import org.springframework.hateoas.hal.CurieProvider;
-import org.springframework.hateoas.hal.HalConfiguration;
-import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
 
 /**
  * Spring MVC HATEOAS Configuration
@@ -37,14 +31,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class WebMvcHateoasConfiguration {
 
 	@Bean
-	HypermediaWebMvcConfigurer hypermediaWebMvcConfigurer(ObjectProvider<ObjectMapper> mapper,
-			DelegatingRelProvider relProvider, ObjectProvider<CurieProvider> curieProvider,
-			ObjectProvider<HalConfiguration> halConfiguration, ObjectProvider<HalFormsConfiguration> halFormsConfiguration,
+	HypermediaWebMvcConfigurer hypermediaWebMvcConfigurer(HypermediaObjectMappers mappers,
 			Collection<HypermediaType> hypermediaTypes) {
-
-		return new HypermediaWebMvcConfigurer(mapper.getIfAvailable(ObjectMapper::new), relProvider,
-				curieProvider.getIfAvailable(), halConfiguration.getIfAvailable(HalConfiguration::new),
-				halFormsConfiguration.getIfAvailable(HalFormsConfiguration::new), hypermediaTypes);
+		return new HypermediaWebMvcConfigurer(mappers, hypermediaTypes);
 	}
 
 	@Bean
@@ -15,25 +15,18 @@
  */
 package org.springframework.hateoas.config.reactive;
 
-import static org.springframework.hateoas.config.HypermediaObjectMapperCreator.*;
-
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.codec.CharSequenceEncoder;
 import org.springframework.core.codec.StringDecoder;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
-import org.springframework.hateoas.core.DelegatingRelProvider;
-import org.springframework.hateoas.hal.CurieProvider;
-import org.springframework.hateoas.hal.HalConfiguration;
-import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
+import org.springframework.hateoas.reactive.StreamingHalEncoder;
 import org.springframework.http.codec.CodecConfigurer;
 import org.springframework.http.codec.ServerCodecConfigurer;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
@@ -44,30 +37,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * {@link WebFluxConfigurer} to register hypermedia-aware {@link org.springframework.core.codec.Encoder}s and
- * {@link org.springframework.core.codec.Decoder}s that will render hypermedia for WebFlux controllers.
+ * {@link org.springframework.core.codec.Decoder}s that will render hypermedia for WebFlux controllers. HAL is rendered
+ * using a {@link StreamingHalEncoder} which can be customized by declaring a bean of that type.
  *
  * @author Greg Turnquist
  * @since 1.0
  */
 @Configuration
 @RequiredArgsConstructor
-public class HypermediaWebFluxConfigurer implements WebFluxConfigurer, BeanFactoryAware {
-
-	private static final String MESSAGE_SOURCE_BEAN_NAME = "linkRelationMessageSource";
+public class HypermediaWebFluxConfigurer implements WebFluxConfigurer {
 
-	private final ObjectMapper mapper;
-	private final DelegatingRelProvider relProvider;
-	private final CurieProvider curieProvider;
-	private final HalConfiguration halConfiguration;
-	private final HalFormsConfiguration halFormsConfiguration;
+	private final HypermediaObjectMappers mappers;
 	private final Collection<HypermediaType> hypermediaTypes;
-
-	private BeanFactory beanFactory;
-
-	@Override
-	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
-		this.beanFactory = beanFactory;
-	}
+	private final ObjectProvider<StreamingHalEncoder> halEncoder;
 
 	/**
 	 * Configure custom HTTP message readers and writers or override built-in ones.
@@ -89,26 +71,21 @@ public class HypermediaWebFluxConfigurer implements WebFluxConfigurer, BeanFacto
 			return;
 		}
 
-		MessageSourceAccessor linkRelationMessageSource = this.beanFactory.getBean(MESSAGE_SOURCE_BEAN_NAME,
-				MessageSourceAccessor.class);
-
 		CodecConfigurer.CustomCodecs customCodecs = configurer.customCodecs();
 
 		if (this.hypermediaTypes.contains(HypermediaType.HAL)) {
 
-			ObjectMapper halObjectMapper = createHalObjectMapper(this.mapper, this.curieProvider, this.relProvider,
-				linkRelationMessageSource, this.halConfiguration);
+			ObjectMapper halObjectMapper = this.mappers.getObjectMapper(HypermediaType.HAL);
 
-			customCodecs.encoder(
-				new Jackson2JsonEncoder(halObjectMapper, MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8));
+			customCodecs.writer(this.halEncoder.getIfAvailable(() -> new StreamingHalEncoder(halObjectMapper)) //
+					.toHttpMessageWriter());
 			customCodecs.decoder(
 				new Jackson2JsonDecoder(halObjectMapper, MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8));
 		}
 
 		if (this.hypermediaTypes.contains(HypermediaType.HAL_FORMS)) {
 
-			ObjectMapper halFormsObjectMapper = createHalFormsObjectMapper(this.mapper, this.curieProvider,
-				this.relProvider, linkRelationMessageSource, this.halFormsConfiguration);
+			ObjectMapper halFormsObjectMapper = this.mappers.getObjectMapper(HypermediaType.HAL_FORMS);
 
 			customCodecs.encoder(
 				new Jackson2JsonEncoder(halFormsObjectMapper, MediaTypes.HAL_FORMS_JSON));
@@ -118,7 +95,7 @@ public class HypermediaWebFluxConfigurer implements WebFluxConfigurer, BeanFacto
 
 		if (this.hypermediaTypes.contains(HypermediaType.COLLECTION_JSON)) {
 
-			ObjectMapper collectionJsonObjectMapper = createCollectionJsonObjectMapper(this.mapper);
+			ObjectMapper collectionJsonObjectMapper = this.mappers.getObjectMapper(HypermediaType.COLLECTION_JSON);
 
 			customCodecs.encoder(new Jackson2JsonEncoder(collectionJsonObjectMapper, MediaTypes.COLLECTION_JSON));
 			customCodecs.decoder(new Jackson2JsonDecoder(collectionJsonObjectMapper, MediaTypes.COLLECTION_JSON));
@@ -126,7 +103,7 @@ public class HypermediaWebFluxConfigurer implements WebFluxConfigurer, BeanFacto
 
 		if (this.hypermediaTypes.contains(HypermediaType.UBER)) {
 
-			ObjectMapper uberObjectMapper = createUberObjectMapper(this.mapper);
+			ObjectMapper uberObjectMapper = this.mappers.getObjectMapper(HypermediaType.UBER);
 
 			customCodecs.encoder(new Jackson2JsonEncoder(uberObjectMapper, MediaTypes.UBER_JSON));
 			customCodecs.decoder(new Jackson2JsonDecoder(uberObjectMapper, MediaTypes.UBER_JSON));
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config.reactive;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.stream.Collectors;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessor;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessorHandlerResultHandler;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessorInvoker;
+import org.springframework.web.reactive.result.method.annotation.ResponseBodyResultHandler;
+
+/**
+ * {@link BeanPostProcessor} to decorate Spring WebFlux' {@link ResponseBodyResultHandler} with a
+ * {@link ReactiveResourceProcessorHandlerResultHandler} if {@link ReactiveResourceProcessor}s are registered in the
+ * application context. Uses a {@link ReactiveResourceProcessorInvoker} found in the application context if present.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ReactiveResourceProcessorBeanPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<ReactiveResourceProcessorInvoker> invoker;
+	private final ObjectProvider<ReactiveResourceProcessor<?>> processors;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.config.BeanPostProcessor#postProcessAfterInitialization(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		if (!(bean instanceof ResponseBodyResultHandler)) {
+			return bean;
+		}
+
+		ReactiveResourceProcessorInvoker invoker = this.invoker.getIfAvailable( //
+				() -> new ReactiveResourceProcessorInvoker(processors.orderedStream().collect(Collectors.toList())));
+
+		return invoker.hasProcessors() //
+				? new ReactiveResourceProcessorHandlerResultHandler((ResponseBodyResultHandler) bean, invoker) //
+				: bean;
+	}
+}
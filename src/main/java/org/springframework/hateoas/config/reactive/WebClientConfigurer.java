@@ -15,29 +15,20 @@
  */
 package org.springframework.hateoas.config.reactive;
 
-import static org.springframework.hateoas.config.HypermediaObjectMapperCreator.*;
-
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.codec.CharSequenceEncoder;
 import org.springframework.core.codec.Decoder;
 import org.springframework.core.codec.Encoder;
 import org.springframework.core.codec.StringDecoder;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
-import org.springframework.hateoas.core.DelegatingRelProvider;
-import org.springframework.hateoas.hal.CurieProvider;
-import org.springframework.hateoas.hal.HalConfiguration;
-import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
@@ -46,30 +37,21 @@ import org.springframework.web.reactive.function.client.WebClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * Assembles {@link ExchangeStrategies} needed to wire a {@link WebClient} with hypermedia support.
+ * Assembles {@link ExchangeStrategies} needed to wire a {@link WebClient} with hypermedia support. The
+ * {@link ExchangeStrategies} are created once from the {@link ObjectMapper}s provided by
+ * {@link HypermediaObjectMappers} and shared by all {@link WebClient}s configured until {@link #refresh()} is called.
  *
  * @author Greg Turnquist
  * @since 1.0
  */
 @Configuration
 @RequiredArgsConstructor
-public class WebClientConfigurer implements BeanFactoryAware {
-
-	private static final String MESSAGE_SOURCE_BEAN_NAME = "linkRelationMessageSource";
+public class WebClientConfigurer {
 
-	private final ObjectMapper mapper;
-	private final DelegatingRelProvider relProvider;
-	private final CurieProvider curieProvider;
-	private final HalConfiguration halConfiguration;
-	private final HalFormsConfiguration halFormsConfiguration;
+	private final HypermediaObjectMappers mappers;
 	private final Collection<HypermediaType> hypermediaTypes;
 
-	private BeanFactory beanFactory;
-
-	@Override
-	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
-		this.beanFactory = beanFactory;
-	}
+	private volatile ExchangeStrategies exchangeStrategies;
 
 	/**
 	 * Return a set of {@link ExchangeStrategies} driven by registered {@link HypermediaType}s.
@@ -78,16 +60,40 @@ public class WebClientConfigurer implements BeanFactoryAware {
 	 */
 	public ExchangeStrategies hypermediaExchangeStrategies() {
 
-		MessageSourceAccessor linkRelationMessageSource = this.beanFactory.getBean(MESSAGE_SOURCE_BEAN_NAME,
-				MessageSourceAccessor.class);
+		ExchangeStrategies strategies = this.exchangeStrategies;
+
+		if (strategies != null) {
+			return strategies;
+		}
+
+		synchronized (this) {
+
+			if (this.exchangeStrategies == null) {
+				this.exchangeStrategies = createExchangeStrategies();
+			}
+
+			return this.exchangeStrategies;
+		}
+	}
+
+	/**
+	 * Drops the {@link ExchangeStrategies} built so far so that the next {@link WebClient} configured picks up the
+	 * {@link ObjectMapper}s currently provided by {@link HypermediaObjectMappers}, e.g. after a call to
+	 * {@link HypermediaObjectMappers#refresh()}. {@link WebClient}s configured before keep using the previous
+	 * {@link ExchangeStrategies}.
+	 */
+	public void refresh() {
+		this.exchangeStrategies = null;
+	}
+
+	private ExchangeStrategies createExchangeStrategies() {
 
 		List<Encoder<?>> encoders = new ArrayList<>();
 		List<Decoder<?>> decoders = new ArrayList<>();
 
 		if (this.hypermediaTypes.contains(HypermediaType.HAL)) {
 
-			ObjectMapper halObjectMapper = createHalObjectMapper(this.mapper, this.curieProvider, this.relProvider,
-				linkRelationMessageSource, this.halConfiguration);
+			ObjectMapper halObjectMapper = this.mappers.getObjectMapper(HypermediaType.HAL);
 
 			encoders.add(new Jackson2JsonEncoder(halObjectMapper, MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8));
 			decoders.add(new Jackson2JsonDecoder(halObjectMapper, MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8));
@@ -95,8 +101,7 @@ public class WebClientConfigurer implements BeanFactoryAware {
 
 		if (this.hypermediaTypes.contains(HypermediaType.HAL_FORMS)) {
 
-			ObjectMapper halFormsObjectMapper = createHalFormsObjectMapper(this.mapper, this.curieProvider,
-				this.relProvider, linkRelationMessageSource, this.halFormsConfiguration);
+			ObjectMapper halFormsObjectMapper = this.mappers.getObjectMapper(HypermediaType.HAL_FORMS);
 
 			encoders.add(new Jackson2JsonEncoder(halFormsObjectMapper, MediaTypes.HAL_FORMS_JSON));
 			decoders.add(new Jackson2JsonDecoder(halFormsObjectMapper, MediaTypes.HAL_FORMS_JSON));
@@ -104,7 +109,7 @@ public class WebClientConfigurer implements BeanFactoryAware {
 
 		if (this.hypermediaTypes.contains(HypermediaType.COLLECTION_JSON)) {
 
-			ObjectMapper collectionJsonObjectMapper = createCollectionJsonObjectMapper(this.mapper);
+			ObjectMapper collectionJsonObjectMapper = this.mappers.getObjectMapper(HypermediaType.COLLECTION_JSON);
 
 			encoders.add(new Jackson2JsonEncoder(collectionJsonObjectMapper, MediaTypes.COLLECTION_JSON));
 			decoders.add(new Jackson2JsonDecoder(collectionJsonObjectMapper, MediaTypes.COLLECTION_JSON));
@@ -112,7 +117,7 @@ public class WebClientConfigurer implements BeanFactoryAware {
 
 		if (this.hypermediaTypes.contains(HypermediaType.UBER)) {
 
-			ObjectMapper uberObjectMapper = createUberObjectMapper(this.mapper);
+			ObjectMapper uberObjectMapper = this.mappers.getObjectMapper(HypermediaType.UBER);
 
 			encoders.add(new Jackson2JsonEncoder(uberObjectMapper, MediaTypes.UBER_JSON));
 			decoders.add(new Jackson2JsonDecoder(uberObjectMapper, MediaTypes.UBER_JSON));
@@ -21,13 +21,11 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
-import org.springframework.hateoas.core.DelegatingRelProvider;
-import org.springframework.hateoas.hal.CurieProvider;
-import org.springframework.hateoas.hal.HalConfiguration;
-import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
 import org.springframework.hateoas.reactive.HypermediaWebFilter;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessor;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessorInvoker;
+import org.springframework.hateoas.reactive.StreamingHalEncoder;
 
 /**
  * Spring WebFlux HATEOAS configuration.
@@ -39,13 +37,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class WebFluxHateoasConfiguration {
 
 	@Bean
-	WebClientConfigurer webClientConfigurer(ObjectProvider<ObjectMapper> mapper, DelegatingRelProvider relProvider,
-			ObjectProvider<CurieProvider> curieProvider, ObjectProvider<HalConfiguration> halConfiguration,
-			ObjectProvider<HalFormsConfiguration> halFormsConfiguration, Collection<HypermediaType> hypermediaTypes) {
-
-		return new WebClientConfigurer(mapper.getIfAvailable(ObjectMapper::new), relProvider,
-				curieProvider.getIfAvailable(), halConfiguration.getIfAvailable(HalConfiguration::new),
-				halFormsConfiguration.getIfAvailable(HalFormsConfiguration::new), hypermediaTypes);
+	WebClientConfigurer webClientConfigurer(HypermediaObjectMappers mappers,
+			Collection<HypermediaType> hypermediaTypes) {
+		return new WebClientConfigurer(mappers, hypermediaTypes);
 	}
 
 	@Bean
@@ -54,14 +48,15 @@ public class WebFluxHateoasConfiguration {
 	}
 
 	@Bean
-	HypermediaWebFluxConfigurer hypermediaWebFluxConfigurer(ObjectProvider<ObjectMapper> mapper,
-			DelegatingRelProvider relProvider, ObjectProvider<CurieProvider> curieProvider,
-			ObjectProvider<HalConfiguration> halConfiguration, ObjectProvider<HalFormsConfiguration> halFormsConfiguration,
-			Collection<HypermediaType> hypermediaTypes) {
+	static ReactiveResourceProcessorBeanPostProcessor reactiveResourceProcessorBeanPostProcessor(
+			ObjectProvider<ReactiveResourceProcessorInvoker> invoker, ObjectProvider<ReactiveResourceProcessor<?>> processors) {
+		return new ReactiveResourceProcessorBeanPostProcessor(invoker, processors);
+	}
 
-		return new HypermediaWebFluxConfigurer(mapper.getIfAvailable(ObjectMapper::new), relProvider,
-				curieProvider.getIfAvailable(), halConfiguration.getIfAvailable(HalConfiguration::new),
-				halFormsConfiguration.getIfAvailable(HalFormsConfiguration::new), hypermediaTypes);
+	@Bean
+	HypermediaWebFluxConfigurer hypermediaWebFluxConfigurer(HypermediaObjectMappers mappers,
+			Collection<HypermediaType> hypermediaTypes, ObjectProvider<StreamingHalEncoder> halEncoder) {
+		return new HypermediaWebFluxConfigurer(mappers, hypermediaTypes, halEncoder);
 	}
 
 	/**
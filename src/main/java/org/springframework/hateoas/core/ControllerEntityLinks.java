@@ -15,7 +15,9 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.annotation.AnnotationUtils;
@@ -134,6 +136,29 @@ public class ControllerEntityLinks extends AbstractEntityLinks {
 		return linkFor(entity).slash(id).withSelfRel();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.EntityLinks#linksToSingleResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linksToSingleResources(Class<?> entity, Iterable<?> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		// Resolve the controller mapping only once
+		LinkBuilder builder = linkFor(entity);
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Id must not be null!");
+
+			links.add(builder.slash(id).withSelfRel());
+		}
+
+		return links;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
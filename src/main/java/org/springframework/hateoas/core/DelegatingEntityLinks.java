@@ -15,11 +15,15 @@
  */
 package org.springframework.hateoas.core;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * {@link EntityLinks} implementation that delegates to the {@link EntityLinks} instances registered in the
@@ -30,6 +34,7 @@ import org.springframework.util.Assert;
 public class DelegatingEntityLinks extends AbstractEntityLinks {
 
 	private final PluginRegistry<EntityLinks, Class<?>> delegates;
+	private final Map<Class<?>, EntityLinks> delegateCache = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link DelegatingEntityLinks} using the given {@link PluginRegistry}.
@@ -78,6 +83,15 @@ public class DelegatingEntityLinks extends AbstractEntityLinks {
 		return getPluginFor(type).linkToSingleResource(type, id);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.EntityLinks#linksToSingleResources(java.lang.Class, java.lang.Iterable)
+	 */
+	@Override
+	public List<Link> linksToSingleResources(Class<?> type, Iterable<?> ids) {
+		return getPluginFor(type).linksToSingleResources(type, ids);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -89,16 +103,16 @@ public class DelegatingEntityLinks extends AbstractEntityLinks {
 
 	/**
 	 * Returns the plugin for the given type or throws an {@link IllegalArgumentException} if no delegate
-	 * {@link EntityLinks} can be found.
+	 * {@link EntityLinks} can be found. Caches the plugin once resolved for a type.
 	 * 
 	 * @param type must not be {@literal null}.
 	 * @return
 	 */
 	private EntityLinks getPluginFor(Class<?> type) {
 
-		return delegates.getPluginFor(type) //
+		return delegateCache.computeIfAbsent(type, it -> delegates.getPluginFor(it) //
 				.orElseThrow(() -> new IllegalArgumentException(
 						String.format("Cannot determine link for %s! No EntityLinks instance found supporting the domain type!",
-								type.getName())));
+								it.getName()))));
 	}
 }
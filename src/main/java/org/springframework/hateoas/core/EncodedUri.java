@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.net.URI;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * An immutable, already encoded URI split into the parts a {@link LinkBuilderSupport} appends to. Appending path
+ * segments, a query or a fragment is implemented via plain {@link String} operations so that building links doesn't
+ * require to clone a {@link UriComponentsBuilder} and re-parse the URI for every step.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public final class EncodedUri {
+
+	private static final char PATH_DELIMITER = '/';
+
+	private final String prefix, path, query, fragment;
+
+	private EncodedUri(String prefix, String path, String query, String fragment) {
+
+		this.prefix = prefix;
+		this.path = path;
+		this.query = query;
+		this.fragment = fragment;
+	}
+
+	/**
+	 * Creates a new {@link EncodedUri} from the given {@link UriComponents}, considering their values as already encoded.
+	 *
+	 * @param components must not be {@literal null}.
+	 * @return
+	 */
+	static EncodedUri of(UriComponents components) {
+
+		Assert.notNull(components, "UriComponents must not be null!");
+
+		StringBuilder prefix = new StringBuilder();
+
+		if (components.getScheme() != null) {
+			prefix.append(components.getScheme()).append(':');
+		}
+
+		String schemeSpecificPart = components.getSchemeSpecificPart();
+
+		if (schemeSpecificPart != null) {
+			return new EncodedUri(prefix.append(schemeSpecificPart).toString(), "", null, components.getFragment());
+		}
+
+		String userInfo = components.getUserInfo();
+		String host = components.getHost();
+
+		if (userInfo != null || host != null) {
+
+			prefix.append("//");
+
+			if (userInfo != null) {
+				prefix.append(userInfo).append('@');
+			}
+
+			if (host != null) {
+				prefix.append(host);
+			}
+
+			if (components.getPort() != -1) {
+				prefix.append(':').append(components.getPort());
+			}
+		}
+
+		String path = components.getPath();
+
+		return new EncodedUri(prefix.toString(), path == null ? "" : path, components.getQuery(),
+				components.getFragment());
+	}
+
+	/**
+	 * Returns a new {@link EncodedUri} with the given already encoded path segments appended. Empty segments are
+	 * ignored, a trailing slash of the current path is dropped if at least one segment is appended.
+	 *
+	 * @param segments must not be {@literal null}.
+	 * @return
+	 */
+	EncodedUri withPathSegments(Iterable<String> segments) {
+
+		Assert.notNull(segments, "Path segments must not be null!");
+
+		StringBuilder builder = null;
+
+		for (String segment : segments) {
+
+			if (!StringUtils.hasText(segment)) {
+				continue;
+			}
+
+			if (builder == null) {
+
+				builder = new StringBuilder(path.length() + segment.length() + 16).append(path);
+
+				if (builder.length() > 0 && builder.charAt(builder.length() - 1) == PATH_DELIMITER) {
+					builder.setLength(builder.length() - 1);
+				}
+			}
+
+			builder.append(PATH_DELIMITER).append(segment);
+		}
+
+		return builder == null ? this : new EncodedUri(prefix, builder.toString(), query, fragment);
+	}
+
+	/**
+	 * Returns a new {@link EncodedUri} with the parameters of the given query appended to the current ones. A
+	 * {@literal null} query drops the current query entirely, just like {@link UriComponentsBuilder#query(String)}.
+	 *
+	 * @param query can be {@literal null}.
+	 * @return
+	 */
+	EncodedUri withQuery(String query) {
+
+		if (query == null) {
+			return this.query == null ? this : new EncodedUri(prefix, path, null, fragment);
+		}
+
+		String merged = UriComponentsBuilder.newInstance() //
+				.query(this.query == null ? "" : this.query) //
+				.query(query) //
+				.build().getQuery();
+
+		return new EncodedUri(prefix, path, merged, fragment);
+	}
+
+	/**
+	 * Returns a new {@link EncodedUri} with the given, already encoded fragment.
+	 *
+	 * @param fragment can be {@literal null}.
+	 * @return
+	 */
+	EncodedUri withFragment(String fragment) {
+		return new EncodedUri(prefix, path, query, fragment);
+	}
+
+	/**
+	 * Returns a fresh {@link UriComponentsBuilder} initialized with the current URI.
+	 *
+	 * @return
+	 */
+	public UriComponentsBuilder toBuilder() {
+
+		String uri = toString();
+
+		return uri.isEmpty() ? UriComponentsBuilder.newInstance() : UriComponentsBuilder.fromUriString(uri);
+	}
+
+	/**
+	 * Returns the current URI as normalized {@link URI}.
+	 *
+	 * @return
+	 */
+	public URI toUri() {
+		return toBuilder().build().toUri().normalize();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		StringBuilder builder = new StringBuilder(prefix.length() + path.length() + 32).append(prefix);
+
+		if (StringUtils.hasLength(path)) {
+
+			if (builder.length() != 0 && path.charAt(0) != PATH_DELIMITER) {
+				builder.append(PATH_DELIMITER);
+			}
+
+			builder.append(path);
+		}
+
+		if (query != null) {
+			builder.append('?').append(query);
+		}
+
+		if (fragment != null) {
+			builder.append('#').append(fragment);
+		}
+
+		return builder.toString();
+	}
+}
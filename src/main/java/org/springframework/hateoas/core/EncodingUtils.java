@@ -17,11 +17,21 @@ package org.springframework.hateoas.core;
 
 import lombok.experimental.UtilityClass;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
 import org.springframework.util.Assert;
 import org.springframework.web.util.UriUtils;
 
 /**
- * Utilities for URI encoding.
+ * Utilities for URI encoding. Produces the same results as the corresponding methods of {@link UriUtils} but scans the
+ * source first and returns it as is if it doesn't contain any characters that need to be encoded, which is the case
+ * for the vast majority of identifiers, numbers and enum names.
  * 
  * @author Oliver Gierke
  * @author Greg Turnquist
@@ -31,7 +41,17 @@ import org.springframework.web.util.UriUtils;
 @UtilityClass
 public class EncodingUtils {
 
-	private static final String ENCODING = "UTF-8";
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+	private static final String UNRESERVED = "-._~";
+	private static final String SUB_DELIMITERS = "!$&'()*+,;=";
+	private static final String PCHAR = UNRESERVED + SUB_DELIMITERS + ":@";
+
+	private static final boolean[] PATH = allowed(PCHAR + "/", "");
+	private static final boolean[] QUERY_PARAM = allowed(PCHAR + "/?", "=&");
+	private static final boolean[] FRAGMENT = allowed(PCHAR + "/?", "");
+
+	private static final Set<Class<?>> SAFE_TYPES = new HashSet<>(Arrays.asList(Byte.class, Short.class,
+			Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class));
 
 	/**
 	 * Encodes the given path value.
@@ -43,11 +63,7 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Path value must not be null!");
 
-		try {
-			return UriUtils.encodePath(source.toString(), ENCODING);
-		} catch (Throwable e) {
-			throw new IllegalStateException(e);
-		}
+		return encode(source, PATH);
 	}
 
 	/**
@@ -60,11 +76,7 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Request parameter value must not be null!");
 
-		try {
-			return UriUtils.encodeQueryParam(source.toString(), ENCODING);
-		} catch (Throwable e) {
-			throw new IllegalStateException(e);
-		}
+		return encode(source, QUERY_PARAM);
 	}
 
 	/**
@@ -77,10 +89,86 @@ public class EncodingUtils {
 
 		Assert.notNull(source, "Fragment value must not be null!");
 
-		try {
-			return UriUtils.encodeFragment(source.toString(), ENCODING);
-		} catch (Throwable e) {
-			throw new IllegalStateException(e);
+		return encode(source, FRAGMENT);
+	}
+
+	private static String encode(Object source, boolean[] allowed) {
+
+		// String representations of numbers and UUIDs only consist of characters allowed in all URI components
+		if (SAFE_TYPES.contains(source.getClass())) {
+			return source.toString();
+		}
+
+		String value = source.toString();
+
+		for (int i = 0; i < value.length(); i++) {
+
+			char character = value.charAt(i);
+
+			if (character >= allowed.length || !allowed[character]) {
+				return encode(value, i, allowed);
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Encodes the given source starting at the given index, assuming all characters before it are allowed ones.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param start the index of the first character that needs to be encoded.
+	 * @param allowed the lookup table of characters allowed in the URI component.
+	 * @return
+	 */
+	private static String encode(String source, int start, boolean[] allowed) {
+
+		byte[] bytes = source.substring(start).getBytes(StandardCharsets.UTF_8);
+		StringBuilder builder = new StringBuilder(start + bytes.length * 3).append(source, 0, start);
+
+		for (byte b : bytes) {
+
+			if (b >= 0 && allowed[b]) {
+				builder.append((char) b);
+			} else {
+				builder.append('%') //
+						.append(HEX_DIGITS[(b >> 4) & 0xF]) //
+						.append(HEX_DIGITS[b & 0xF]);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Creates a lookup table for the ASCII characters allowed in a URI component, i.e. letters, digits and the given
+	 * additional characters except the excluded ones.
+	 *
+	 * @param additional must not be {@literal null}.
+	 * @param excluded must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean[] allowed(String additional, String excluded) {
+
+		boolean[] allowed = new boolean[128];
+
+		for (char c = 'a'; c <= 'z'; c++) {
+			allowed[c] = true;
+			allowed[Character.toUpperCase(c)] = true;
+		}
+
+		for (char c = '0'; c <= '9'; c++) {
+			allowed[c] = true;
 		}
+
+		for (char c : additional.toCharArray()) {
+			allowed[c] = true;
+		}
+
+		for (char c : excluded.toCharArray()) {
+			allowed[c] = false;
+		}
+
+		return allowed;
 	}
 }
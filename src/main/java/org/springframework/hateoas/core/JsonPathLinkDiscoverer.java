@@ -17,13 +17,13 @@ package org.springframework.hateoas.core;
 
 import net.minidev.json.JSONArray;
 
-import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +34,7 @@ import org.springframework.hateoas.Links;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 
@@ -66,54 +67,46 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
 	 */
 	@Override
-	public Optional<Link> findLinkWithRel(LinkRelation relation, String representation) {
-		return firstOrEmpty(findLinksWithRel(relation, representation));
+	public Links findLinksWithRel(LinkRelation relation, String representation) {
+		return findLinksWithRels(Collections.singleton(relation), representation);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
 	 */
 	@Override
-	public Optional<Link> findLinkWithRel(LinkRelation relation, InputStream representation) {
-		return firstOrEmpty(findLinksWithRel(relation, representation));
+	public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+		return findLinksWithRels(Collections.singleton(relation), representation);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
 	 */
 	@Override
-	public Links findLinksWithRel(LinkRelation relation, String representation) {
+	public Links findLinksWithRels(Collection<LinkRelation> relations, String representation) {
 
-		Assert.notNull(relation, "LinkRelation must not be null!");
+		Assert.notNull(relations, "LinkRelations must not be null!");
+		Assert.notNull(representation, "Representation must not be null!");
 
-		try {
-			Object parseResult = getExpression(relation).read(representation);
-			return createLinksFrom(parseResult, relation);
-		} catch (InvalidPathException e) {
-			return Links.NONE;
-		}
+		return findLinksWithRels(relations, JsonPath.parse(representation));
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
 	 */
 	@Override
-	public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+	public Links findLinksWithRels(Collection<LinkRelation> relations, InputStream representation) {
 
-		Assert.notNull(relation, "LinkRelation must not be null!");
+		Assert.notNull(relations, "LinkRelations must not be null!");
+		Assert.notNull(representation, "InputStream must not be null!");
 
-		try {
-			Object parseResult = getExpression(relation).read(representation);
-			return createLinksFrom(parseResult, relation);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
-		}
+		return findLinksWithRels(relations, JsonPath.parse(representation));
 	}
 
 	/*
@@ -138,6 +131,45 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		return new Link(element.toString(), rel);
 	}
 
+	/**
+	 * Returns all {@link Link}s with the given {@link LinkRelation} contained in the given, already parsed document.
+	 * Subclasses can override this to customize the lookup for individual relations.
+	 *
+	 * @param relation will never be {@literal null}.
+	 * @param document will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	protected Links findLinksWithRel(LinkRelation relation, DocumentContext document) {
+
+		try {
+			Object parseResult = document.read(getExpression(relation));
+			return createLinksFrom(parseResult, relation);
+		} catch (InvalidPathException e) {
+			return Links.NONE;
+		}
+	}
+
+	/**
+	 * Looks up the {@link Link}s for all given {@link LinkRelation}s in the given document, which is only parsed once.
+	 *
+	 * @param relations must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @return
+	 */
+	private Links findLinksWithRels(Collection<LinkRelation> relations, DocumentContext document) {
+
+		List<Link> links = new ArrayList<>();
+
+		for (LinkRelation relation : relations) {
+
+			Assert.notNull(relation, "LinkRelation must not be null!");
+
+			findLinksWithRel(relation, document).forEach(links::add);
+		}
+
+		return Links.of(links);
+	}
+
 	/**
 	 * Returns the {@link JsonPath} to find links with the given relation type.
 	 *
@@ -171,11 +203,4 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 				? extractLink(parseResult, rel) //
 				: new Link(parseResult.toString(), rel));
 	}
-
-	private static <T> Optional<T> firstOrEmpty(Iterable<T> source) {
-
-		Iterator<T> iterator = source.iterator();
-
-		return iterator.hasNext() ? Optional.of(iterator.next()) : Optional.empty();
-	}
 }
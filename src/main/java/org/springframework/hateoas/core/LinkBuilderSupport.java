@@ -21,6 +21,7 @@ import lombok.Getter;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -39,7 +40,8 @@ import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Base class to implement {@link LinkBuilder}s based on a Spring MVC {@link UriComponentsBuilder}.
+ * Base class to implement {@link LinkBuilder}s based on a Spring MVC {@link UriComponentsBuilder}. The URI built is
+ * kept as immutable {@link EncodedUri} so that appending to it doesn't need to clone and re-parse builders.
  *
  * @author Ricardo Gladwell
  * @author Oliver Gierke
@@ -49,7 +51,7 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkBuilder {
 
-	private final UriComponentsBuilder builder;
+	private final EncodedUri uri;
 	private final @Getter List<Affordance> affordances;
 
 	/**
@@ -66,18 +68,36 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 		Assert.notNull(builder, "UriComponents must not be null!");
 		Assert.notNull(affordances, "Affordances must not be null!");
 
-		this.builder = builder.cloneBuilder();
+		this.uri = EncodedUri.of(builder.build());
 		this.affordances = affordances;
 	}
 
+	/**
+	 * Creates a new {@link LinkBuilderSupport} using the given {@link UriComponents}.
+	 *
+	 * @param components must not be {@literal null}.
+	 * @param affordances must not be {@literal null}.
+	 */
 	protected LinkBuilderSupport(UriComponents components, List<Affordance> affordances) {
 
-		String uriString = components.toUriString();
-		UriComponentsBuilder builder = uriString.isEmpty() //
-				? UriComponentsBuilder.fromUri(components.toUri()) //
-				: UriComponentsBuilder.fromUriString(uriString);
+		Assert.notNull(components, "UriComponents must not be null!");
 
-		this.builder = builder;
+		this.uri = EncodedUri.of(components);
+		this.affordances = affordances;
+	}
+
+	/**
+	 * Creates a new {@link LinkBuilderSupport} using the given {@link EncodedUri}.
+	 *
+	 * @param uri must not be {@literal null}.
+	 * @param affordances must not be {@literal null}.
+	 */
+	protected LinkBuilderSupport(EncodedUri uri, List<Affordance> affordances) {
+
+		Assert.notNull(uri, "EncodedUri must not be null!");
+		Assert.notNull(affordances, "Affordances must not be null!");
+
+		this.uri = uri;
 		this.affordances = affordances;
 	}
 
@@ -109,25 +129,47 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 
 		path = path.startsWith("/") ? path : "/".concat(path);
 
-		return slash(UriComponentsBuilder.fromUriString(path).build(), false);
+		// Authority-like paths need full URI parsing
+		if (path.startsWith("//")) {
+			return slash(UriComponentsBuilder.fromUriString(path).build(), false);
+		}
+
+		int fragmentIndex = path.indexOf('#');
+		String fragment = fragmentIndex == -1 ? null : path.substring(fragmentIndex + 1);
+		path = fragmentIndex == -1 ? path : path.substring(0, fragmentIndex);
+
+		int queryIndex = path.indexOf('?');
+		String query = queryIndex == -1 ? null : path.substring(queryIndex + 1);
+		path = queryIndex == -1 ? path : path.substring(0, queryIndex);
+
+		return slash(Arrays.asList(StringUtils.tokenizeToStringArray(path, "/")), //
+				StringUtils.hasLength(query) ? query : null, fragment, false);
 	}
 
 	protected T slash(UriComponents components, boolean encoded) {
+		return slash(components.getPathSegments(), components.getQuery(), components.getFragment(), encoded);
+	}
 
-		return withFreshBuilder(builder -> {
+	private T slash(List<String> segments, String query, String fragment, boolean encoded) {
 
-			for (String pathSegment : components.getPathSegments()) {
-				builder.pathSegment(encoded ? pathSegment : encodePath(pathSegment));
-			}
+		List<String> encodedSegments = segments;
 
-			String fragment = components.getFragment();
+		if (!encoded) {
 
-			if (StringUtils.hasText(fragment)) {
-				builder.fragment(encoded ? fragment : encodeFragment(fragment));
+			encodedSegments = new ArrayList<>(segments.size());
+
+			for (String segment : segments) {
+				encodedSegments.add(encodePath(segment));
 			}
+		}
 
-			return createNewInstance(builder.query(components.getQuery()), affordances);
-		});
+		EncodedUri uri = this.uri.withPathSegments(encodedSegments).withQuery(query);
+
+		if (StringUtils.hasText(fragment)) {
+			uri = uri.withFragment(encoded ? fragment : encodeFragment(fragment));
+		}
+
+		return createNewInstance(uri, affordances);
 	}
 
 	/*
@@ -148,7 +190,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @see org.springframework.hateoas.LinkBuilder#toUri()
 	 */
 	public URI toUri() {
-		return builder.build().toUri().normalize();
+		return uri.toUri();
 	}
 
 	public T addAffordances(Collection<Affordance> affordances) {
@@ -157,7 +199,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 		newAffordances.addAll(this.affordances);
 		newAffordances.addAll(affordances);
 
-		return createNewInstance(builder, newAffordances);
+		return createNewInstance(uri, newAffordances);
 	}
 
 	/*
@@ -184,7 +226,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 */
 	@Override
 	public String toString() {
-		return builder.build().toUriString();
+		return uri.toString();
 	}
 
 	/**
@@ -197,7 +239,7 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 
 		Assert.notNull(function, "Function must not be null!");
 
-		return function.apply(builder.cloneBuilder());
+		return function.apply(uri.toBuilder());
 	}
 
 	/**
@@ -214,4 +256,17 @@ public abstract class LinkBuilderSupport<T extends LinkBuilder> implements LinkB
 	 * @return
 	 */
 	protected abstract T createNewInstance(UriComponentsBuilder builder, List<Affordance> affordances);
+
+	/**
+	 * Creates a new instance of the sub-class for the given {@link EncodedUri}. Defaults to
+	 * {@link #createNewInstance(UriComponentsBuilder, List)}, override to avoid the detour through a
+	 * {@link UriComponentsBuilder}.
+	 *
+	 * @param uri will never be {@literal null}.
+	 * @param affordances will never be {@literal null}.
+	 * @return
+	 */
+	protected T createNewInstance(EncodedUri uri, List<Affordance> affordances) {
+		return createNewInstance(uri.toBuilder(), affordances);
+	}
 }
@@ -48,6 +48,14 @@ public abstract class TemplateVariableAwareLinkBuilderSupport<T extends Template
 		this.variables = variables;
 	}
 
+	protected TemplateVariableAwareLinkBuilderSupport(EncodedUri uri, TemplateVariables variables,
+			List<Affordance> affordances) {
+
+		super(uri, affordances);
+
+		this.variables = variables;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.web.util.UriComponentsBuilder, java.util.List)
@@ -60,6 +68,28 @@ public abstract class TemplateVariableAwareLinkBuilderSupport<T extends Template
 	protected abstract T createNewInstance(UriComponentsBuilder builder, List<Affordance> affordances,
 			TemplateVariables variables);
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.LinkBuilderSupport#createNewInstance(org.springframework.hateoas.core.EncodedUri, java.util.List)
+	 */
+	@Override
+	protected final T createNewInstance(EncodedUri uri, List<Affordance> affordances) {
+		return createNewInstance(uri, affordances, variables);
+	}
+
+	/**
+	 * Creates a new instance of the sub-class for the given {@link EncodedUri}. Defaults to
+	 * {@link #createNewInstance(UriComponentsBuilder, List, TemplateVariables)}.
+	 *
+	 * @param uri will never be {@literal null}.
+	 * @param affordances will never be {@literal null}.
+	 * @param variables will never be {@literal null}.
+	 * @return
+	 */
+	protected T createNewInstance(EncodedUri uri, List<Affordance> affordances, TemplateVariables variables) {
+		return createNewInstance(uri.toBuilder(), affordances, variables);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.LinkBuilderSupport#toString()
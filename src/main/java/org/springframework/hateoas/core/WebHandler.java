@@ -31,12 +31,14 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.format.annotation.NumberFormat;
 import org.springframework.format.support.DefaultFormattingConversionService;
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.LinkBuilder;
@@ -403,9 +405,22 @@ public class WebHandler {
 			 */
 			public String asString() {
 
-				return value == null //
-						? null //
-						: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+				if (value == null) {
+					return null;
+				}
+
+				// Shortcuts for common identifier types the ConversionService would render the very same way
+				if (value instanceof UUID || value instanceof Long || value instanceof Integer) {
+					return parameterTypeDescriptor.hasAnnotation(NumberFormat.class) //
+							? (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR) //
+							: value.toString();
+				}
+
+				if (value instanceof Enum) {
+					return ((Enum<?>) value).name();
+				}
+
+				return (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
 			}
 
 			/**
@@ -15,23 +15,40 @@
  */
 package org.springframework.hateoas.hal;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkRelation;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
 import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 /**
- * {@link LinkDiscoverer} implementation based on HAL link structure.
+ * {@link LinkDiscoverer} implementation based on HAL link structure. Uses a streaming {@link JsonParser} that only
+ * inspects the top-level {@code _links} object and skips all other content, e.g. {@code _embedded} resources, without
+ * materializing it. Reading stops as soon as {@code _links} has been consumed.
  *
  * @author Oliver Gierke
  * @author Greg Turnquist
  */
 public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 
+	private static final JsonFactory FACTORY = new JsonFactory();
+	private static final String LINKS = "_links";
+
 	/**
 	 * Constructor for {@link MediaTypes#HAL_JSON}.
 	 */
@@ -43,6 +60,40 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 		super("$._links..['%s']", mediaTypes);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
+	 */
+	@Override
+	public Links findLinksWithRels(Collection<LinkRelation> relations, String representation) {
+
+		Assert.notNull(relations, "LinkRelations must not be null!");
+		Assert.notNull(representation, "Representation must not be null!");
+
+		try (JsonParser parser = FACTORY.createParser(representation)) {
+			return findLinksWithRels(relations, parser);
+		} catch (IOException o_O) {
+			throw new IllegalArgumentException("Could not read HAL document!", o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
+	 */
+	@Override
+	public Links findLinksWithRels(Collection<LinkRelation> relations, InputStream representation) {
+
+		Assert.notNull(relations, "LinkRelations must not be null!");
+		Assert.notNull(representation, "InputStream must not be null!");
+
+		try (JsonParser parser = FACTORY.createParser(representation)) {
+			return findLinksWithRels(relations, parser);
+		} catch (IOException o_O) {
+			throw new IllegalArgumentException("Could not read HAL document!", o_O);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#extractLink(java.lang.Object, org.springframework.hateoas.LinkRelation)
@@ -66,4 +117,146 @@ public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 				.withProfile(json.get("profile")) //
 				.withName(json.get("name"));
 	}
+
+	/**
+	 * Scans the top-level {@code _links} object for the given {@link LinkRelation}s, skipping all other subtrees.
+	 *
+	 * @param relations must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private Links findLinksWithRels(Collection<LinkRelation> relations, JsonParser parser) throws IOException {
+
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			return Links.NONE;
+		}
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+
+			if (LINKS.equals(name) && value == JsonToken.START_OBJECT) {
+				return readLinks(relations, parser);
+			}
+
+			parser.skipChildren();
+		}
+
+		return Links.NONE;
+	}
+
+	/**
+	 * Reads the {@link Link}s of the given {@link LinkRelation}s from the {@code _links} object the given
+	 * {@link JsonParser} is currently positioned at.
+	 *
+	 * @param relations must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private Links readLinks(Collection<LinkRelation> relations, JsonParser parser) throws IOException {
+
+		List<LinkRelation> lookup = new ArrayList<>(relations);
+		List<List<Link>> buckets = new ArrayList<>(lookup.size());
+
+		for (LinkRelation relation : lookup) {
+
+			Assert.notNull(relation, "LinkRelation must not be null!");
+			buckets.add(new ArrayList<>());
+		}
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			List<Link> found = null;
+
+			for (int i = 0; i < lookup.size(); i++) {
+
+				LinkRelation relation = lookup.get(i);
+
+				if (!relation.value().equals(name)) {
+					continue;
+				}
+
+				if (found == null) {
+					found = new ArrayList<>();
+					readLinks(relation, parser, token, found);
+				}
+
+				buckets.get(i).addAll(found);
+			}
+
+			if (found == null) {
+				parser.skipChildren();
+			}
+		}
+
+		List<Link> result = new ArrayList<>();
+		buckets.forEach(result::addAll);
+
+		return Links.of(result);
+	}
+
+	/**
+	 * Reads the value of a single {@code _links} entry, which can either be a single link object, an array of them or a
+	 * plain {@link String} href.
+	 *
+	 * @param relation must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @param token the current token.
+	 * @param links the {@link List} to add the discovered {@link Link}s to.
+	 * @throws IOException
+	 */
+	private void readLinks(LinkRelation relation, JsonParser parser, JsonToken token, List<Link> links)
+			throws IOException {
+
+		if (token == JsonToken.START_ARRAY) {
+
+			JsonToken element;
+
+			while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+				readLinks(relation, parser, element, links);
+			}
+
+			return;
+		}
+
+		if (token == JsonToken.START_OBJECT) {
+			links.add(extractLink(readAttributes(parser), relation));
+			return;
+		}
+
+		if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+			links.add(extractLink(parser.getText(), relation));
+		}
+	}
+
+	/**
+	 * Reads the scalar attributes of the link object the given {@link JsonParser} is currently positioned at.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private static Map<String, String> readAttributes(JsonParser parser) throws IOException {
+
+		Map<String, String> attributes = new HashMap<>();
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+				attributes.put(name, parser.getText());
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		return attributes;
+	}
 }
@@ -27,6 +27,7 @@ import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.EncodedUri;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.core.UriTemplateFactory;
@@ -75,6 +76,10 @@ public class ControllerLinkBuilder extends TemplateVariableAwareLinkBuilderSuppo
 		super(uriComponents, variables, affordances);
 	}
 
+	ControllerLinkBuilder(EncodedUri uri, TemplateVariables variables, List<Affordance> affordances) {
+		super(uri, variables, affordances);
+	}
+
 	/**
 	 * Creates a new {@link ControllerLinkBuilder} with a base of the mapping annotated to the given controller class.
 	 *
@@ -230,6 +235,15 @@ public class ControllerLinkBuilder extends TemplateVariableAwareLinkBuilderSuppo
 		return new ControllerLinkBuilder(builder, variables, affordances);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.TemplateVariableAwareLinkBuilderSupport#createNewInstance(org.springframework.hateoas.core.EncodedUri, java.util.List, org.springframework.hateoas.TemplateVariables)
+	 */
+	@Override
+	protected ControllerLinkBuilder createNewInstance(EncodedUri uri, List<Affordance> affordances, TemplateVariables variables) {
+		return new ControllerLinkBuilder(uri, variables, affordances);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 *
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link TypeConstrainedMappingJackson2HttpMessageConverter} supporting multiple hypermedia {@link MediaType}s at once,
+ * each of them backed by a dedicated {@link ObjectMapper}. Content negotiation thus only needs to probe a single
+ * converter, which then reads and writes the representation using the {@link ObjectMapper} registered for the actual
+ * {@link MediaType}. The {@link ObjectMapper} registered for the first {@link MediaType} is the primary one, i.e. used
+ * for {@link #canRead(Class, MediaType)} and {@link #canWrite(Class, MediaType)} checks and if no specific
+ * {@link MediaType} is requested.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class HypermediaMappingJackson2HttpMessageConverter extends TypeConstrainedMappingJackson2HttpMessageConverter {
+
+	private final Map<MediaType, TypeConstrainedMappingJackson2HttpMessageConverter> delegates;
+
+	/**
+	 * Creates a new {@link HypermediaMappingJackson2HttpMessageConverter} for the given type and {@link ObjectMapper}s
+	 * per {@link MediaType}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param mappers must not be {@literal null} or empty.
+	 */
+	public HypermediaMappingJackson2HttpMessageConverter(Class<?> type, Map<MediaType, ObjectMapper> mappers) {
+
+		super(type);
+
+		Assert.notEmpty(mappers, "ObjectMappers must not be null or empty!");
+
+		ObjectMapper primary = mappers.values().iterator().next();
+		Map<ObjectMapper, List<MediaType>> mediaTypesByMapper = new IdentityHashMap<>();
+
+		mappers.forEach((mediaType, mapper) -> mediaTypesByMapper //
+				.computeIfAbsent(mapper, __ -> new ArrayList<>()) //
+				.add(mediaType));
+
+		Map<MediaType, TypeConstrainedMappingJackson2HttpMessageConverter> delegates = new LinkedHashMap<>();
+
+		mediaTypesByMapper.forEach((mapper, mediaTypes) -> {
+
+			if (mapper == primary) {
+				return;
+			}
+
+			TypeConstrainedMappingJackson2HttpMessageConverter delegate = new TypeConstrainedMappingJackson2HttpMessageConverter(
+					type, mediaTypes, mapper);
+
+			mediaTypes.forEach(it -> delegates.put(it, delegate));
+		});
+
+		this.delegates = Collections.unmodifiableMap(delegates);
+
+		setSupportedMediaTypes(new ArrayList<>(mappers.keySet()));
+		setObjectMapper(primary);
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} used for the given {@link MediaType}.
+	 *
+	 * @param mediaType can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public ObjectMapper getObjectMapper(MediaType mediaType) {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter delegate = getDelegate(mediaType);
+
+		return delegate == null ? getObjectMapper() : delegate.getObjectMapper();
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#readInternal(java.lang.Class, org.springframework.http.HttpInputMessage)
+	 */
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter delegate = getDelegate(
+				inputMessage.getHeaders().getContentType());
+
+		return delegate == null //
+				? super.readInternal(clazz, inputMessage) //
+				: delegate.read(clazz, inputMessage);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#read(java.lang.reflect.Type, java.lang.Class, org.springframework.http.HttpInputMessage)
+	 */
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter delegate = getDelegate(
+				inputMessage.getHeaders().getContentType());
+
+		return delegate == null //
+				? super.read(type, contextClass, inputMessage) //
+				: delegate.read(type, contextClass, inputMessage);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+
+		MediaType contentType = outputMessage.getHeaders().getContentType();
+		TypeConstrainedMappingJackson2HttpMessageConverter delegate = getDelegate(contentType);
+
+		if (delegate == null) {
+			super.writeInternal(object, type, outputMessage);
+		} else {
+			delegate.write(object, type, contentType, outputMessage);
+		}
+	}
+
+	/**
+	 * Returns the converter to use for the given {@link MediaType} or {@literal null} in case the primary
+	 * {@link ObjectMapper} is to be used.
+	 *
+	 * @param mediaType can be {@literal null}.
+	 * @return
+	 */
+	private TypeConstrainedMappingJackson2HttpMessageConverter getDelegate(MediaType mediaType) {
+
+		if (mediaType == null || delegates == null) {
+			return null;
+		}
+
+		for (Map.Entry<MediaType, TypeConstrainedMappingJackson2HttpMessageConverter> entry : delegates.entrySet()) {
+			if (entry.getKey().equalsTypeAndSubtype(mediaType)) {
+				return entry.getValue();
+			}
+		}
+
+		return null;
+	}
+}
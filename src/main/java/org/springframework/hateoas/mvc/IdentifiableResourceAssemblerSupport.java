@@ -18,8 +18,10 @@ package org.springframework.hateoas.mvc;
 import static org.springframework.hateoas.mvc.WebMvcLinkBuilder.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.hateoas.Identifiable;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.util.Assert;
@@ -72,6 +74,27 @@ public abstract class IdentifiableResourceAssemblerSupport<T extends Identifiabl
 		return instance;
 	}
 
+	/**
+	 * Creates new resources for the given entities and adds self links to them using the {@link Identifiable}'s ids.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param parameters parameters to expand the controller mapping with, {@link Identifiable}s will be unwrapped.
+	 * @return
+	 * @see #createResourcesWithIds(Iterable, java.util.function.Function, Object...)
+	 */
+	protected List<D> createResources(Iterable<? extends T> entities, Object... parameters) {
+		return createResourcesWithIds(entities, Identifiable::getId, parameters);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mvc.ResourceAssemblerSupport#linksToSingleResources(java.lang.Iterable, java.lang.Object[])
+	 */
+	@Override
+	protected List<Link> linksToSingleResources(Iterable<?> ids, Object... parameters) {
+		return super.linksToSingleResources(ids, unwrapIdentifyables(parameters));
+	}
+
 	/**
 	 * Extracts the ids of the given values in case they're {@link Identifiable}s. Returns all other objects as they are.
 	 *
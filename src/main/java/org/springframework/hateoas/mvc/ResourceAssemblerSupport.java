@@ -17,15 +17,31 @@ package org.springframework.hateoas.mvc;
 
 import static org.springframework.hateoas.mvc.WebMvcLinkBuilder.*;
 
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.support.ExecutorUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Base class to implement {@link ResourceAssembler}s. Will automate {@link ResourceSupport} instance creation and make
@@ -36,6 +52,8 @@ import org.springframework.util.Assert;
  */
 public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> implements ResourceAssembler<T, D> {
 
+	private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentReferenceHashMap<>();
+
 	private final Class<?> controllerClass;
 	private final Class<D> resourceType;
 
@@ -67,6 +85,17 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return new Builder<>(entities, this);
 	}
 
+	/**
+	 * Returns a {@link Builder} to assemble resources for the given {@link Stream} of entities. The {@link Stream} is
+	 * consumed lazily but can only be consumed once.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 */
+	public Builder<T, D> map(Stream<? extends T> entities) {
+		return new Builder<>(entities, this);
+	}
+
 	/**
 	 * Creates a new resource with a self link to the given id.
 	 *
@@ -88,27 +117,149 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		return instance;
 	}
 
+	/**
+	 * Creates new resources for the given entities with a self link to the id obtained from the entity through the given
+	 * {@link Function} each. Resolves the link to the controller only once and appends the individual ids to it, which
+	 * makes it considerably cheaper than calling {@link #createResourceWithId(Object, Object, Object...)} for each entity.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @param parameters parameters to expand the controller mapping with.
+	 * @return the resources in the order of the given entities.
+	 * @see #linksToSingleResources(Iterable, Object...)
+	 */
+	protected List<D> createResourcesWithIds(Iterable<? extends T> entities, Function<? super T, ?> ids,
+			Object... parameters) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+		Assert.notNull(ids, "Id function must not be null!");
+
+		List<T> sources = new ArrayList<>();
+		List<Object> identifiers = new ArrayList<>();
+
+		for (T entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null!");
+
+			sources.add(entity);
+			identifiers.add(ids.apply(entity));
+		}
+
+		List<Link> links = linksToSingleResources(identifiers, parameters);
+		List<D> result = new ArrayList<>(sources.size());
+
+		for (int i = 0; i < sources.size(); i++) {
+
+			D instance = instantiateResource(sources.get(i));
+			instance.add(links.get(i));
+			result.add(instance);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Creates self links to the resources with the given ids exposed by the controller. The link to the controller is
+	 * only resolved once and the encoded ids are appended to it.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param parameters parameters to expand the controller mapping with.
+	 * @return the links in the order of the given ids.
+	 */
+	protected List<Link> linksToSingleResources(Iterable<?> ids, Object... parameters) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		LinkBuilder builder = linkTo(this.controllerClass, parameters);
+		List<Link> links = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Id must not be null!");
+
+			links.add(builder.slash(id).withSelfRel());
+		}
+
+		return links;
+	}
+
 	/**
 	 * Instantiates the resource object. Default implementation will assume a no-arg constructor and use reflection but
 	 * can be overridden to manually set up the object instance initially (e.g. to improve performance if this becomes an
-	 * issue).
+	 * issue). The constructor is looked up once per resource type.
 	 *
 	 * @param entity
 	 * @return
 	 */
+	@SuppressWarnings("unchecked")
 	protected D instantiateResource(T entity) {
-		return BeanUtils.instantiateClass(this.resourceType);
+
+		Constructor<?> constructor = CONSTRUCTORS.computeIfAbsent(this.resourceType,
+				ResourceAssemblerSupport::findDefaultConstructor);
+
+		return constructor == null //
+				? BeanUtils.instantiateClass(this.resourceType) //
+				: BeanUtils.instantiateClass((Constructor<D>) constructor);
+	}
+
+	private static Constructor<?> findDefaultConstructor(Class<?> type) {
+
+		try {
+			return ReflectionUtils.accessibleConstructor(type);
+		} catch (NoSuchMethodException o_O) {
+			return null;
+		}
 	}
 
-	static class Builder<T, D extends ResourceSupport> {
+	/**
+	 * Assembles resources for a given set of entities.
+	 *
+	 * @author Oliver Gierke
+	 * @author Greg Turnquist
+	 * @author agent
+	 */
+	public static class Builder<T, D extends ResourceSupport> {
 
-		private final Iterable<? extends T> entities;
+		private final Supplier<Spliterator<? extends T>> entities;
 		private final ResourceAssemblerSupport<T, D> resourceAssembler;
+		private final Executor executor;
+		private final int parallelismThreshold;
 
 		Builder(Iterable<? extends T> entities, ResourceAssemblerSupport<T, D> resourceAssembler) {
+			this(Objects.requireNonNull(entities, "entities must not null!")::spliterator, resourceAssembler, null,
+					Integer.MAX_VALUE);
+		}
+
+		Builder(Stream<? extends T> entities, ResourceAssemblerSupport<T, D> resourceAssembler) {
+			this(Objects.requireNonNull(entities, "entities must not null!")::spliterator, resourceAssembler, null,
+					Integer.MAX_VALUE);
+		}
+
+		private Builder(Supplier<Spliterator<? extends T>> entities, ResourceAssemblerSupport<T, D> resourceAssembler,
+				Executor executor, int parallelismThreshold) {
 
-			this.entities = Objects.requireNonNull(entities, "entities must not null!");
+			this.entities = entities;
 			this.resourceAssembler = resourceAssembler;
+			this.executor = executor;
+			this.parallelismThreshold = parallelismThreshold;
+		}
+
+		/**
+		 * Returns a new {@link Builder} that assembles the resources on the given {@link Executor} if there are at least
+		 * the given number of entities. The order of the entities is retained. The current request is exposed to the
+		 * threads assembling the resources so that links built from it point to the same base URI. Only use this if the
+		 * {@link ResourceAssembler#toResource(Object)} implementation is thread-safe.
+		 *
+		 * @param executor must not be {@literal null}.
+		 * @param threshold the minimum number of entities to assemble in parallel, must be greater than zero.
+		 * @return
+		 */
+		public Builder<T, D> withParallelAssembly(Executor executor, int threshold) {
+
+			Assert.notNull(executor, "Executor must not be null!");
+			Assert.isTrue(threshold > 0, "Threshold must be greater than zero!");
+
+			return new Builder<>(entities, resourceAssembler, executor, threshold);
 		}
 
 		/**
@@ -119,13 +270,24 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		 */
 		public List<D> toListOfResources() {
 
-			List<D> result = new ArrayList<>();
+			Spliterator<? extends T> spliterator = entities.get();
+
+			if (executor == null) {
+
+				long size = spliterator.getExactSizeIfKnown();
+				List<D> result = size < 0 ? new ArrayList<>() : new ArrayList<>((int) size);
 
-			for (T entity : this.entities) {
-				result.add(this.resourceAssembler.toResource(entity));
+				spliterator.forEachRemaining(entity -> result.add(this.resourceAssembler.toResource(entity)));
+
+				return result;
 			}
 
-			return result;
+			List<T> source = new ArrayList<>();
+			spliterator.forEachRemaining(source::add);
+
+			return source.size() < parallelismThreshold //
+					? source.stream().map(this.resourceAssembler::toResource).collect(Collectors.toList()) //
+					: assembleInParallel(source);
 		}
 
 		/**
@@ -137,5 +299,40 @@ public abstract class ResourceAssemblerSupport<T, D extends ResourceSupport> imp
 		public Resources<D> toResources() {
 			return new Resources<>(toListOfResources());
 		}
+
+		/**
+		 * Returns a {@link Stream} of resources that lazily assembles the entities as they're consumed.
+		 *
+		 * @return
+		 */
+		public Stream<D> toStream() {
+			return StreamSupport.stream(entities.get(), false).map(this.resourceAssembler::toResource);
+		}
+
+		private List<D> assembleInParallel(List<T> source) {
+
+			// Resolve the base URI upfront as the request attributes must not be written to concurrently
+			RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+			if (attributes != null) {
+				UriComponentsBuilderFactory.getComponents();
+			}
+
+			return ExecutorUtils.invokeAll(source.stream() //
+					.<Supplier<D>> map(entity -> () -> assemble(entity, attributes)) //
+					.collect(Collectors.toList()), executor, "resource assemblers");
+		}
+
+		private D assemble(T entity, RequestAttributes attributes) {
+
+			RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+			RequestContextHolder.setRequestAttributes(attributes);
+
+			try {
+				return this.resourceAssembler.toResource(entity);
+			} finally {
+				RequestContextHolder.setRequestAttributes(previous);
+			}
+		}
 	}
 }
@@ -16,18 +16,22 @@
 package org.springframework.hateoas.mvc;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.springframework.aop.support.AopUtils;
 import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
-import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ConcurrentResourceProcessor;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
-import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.support.ExecutorUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -36,12 +40,16 @@ import org.springframework.util.ReflectionUtils;
  * {@link ResourceSupport}.
  *
  * @author Oliver Gierke
+ * @author agent
  * @since 0.20
  * @soundtrack Doppelkopf - Die fabelhaften Vier (Von Abseits)
  */
 public class ResourceProcessorInvoker {
 
 	private final List<ProcessorWrapper> processors;
+	private final ResourceProcessorMatcher<ProcessorWrapper> matcher;
+	private final Executor executor;
+	private final int parallelismThreshold;
 
 	/**
 	 * Creates a new {@link ResourceProcessorInvoker} to consider the given {@link ResourceProcessor} to post-process the
@@ -56,20 +64,40 @@ public class ResourceProcessorInvoker {
 		this.processors = new ArrayList<>();
 
 		for (ResourceProcessor<?> processor : processors) {
-
-			ResolvableType processorType = ResolvableType.forClass(ResourceProcessor.class, processor.getClass());
-			Class<?> rawType = processorType.getGeneric(0).resolve();
-
-			if (Resource.class.isAssignableFrom(rawType)) {
-				this.processors.add(new ResourceProcessorWrapper(processor));
-			} else if (Resources.class.isAssignableFrom(rawType)) {
-				this.processors.add(new ResourcesProcessorWrapper(processor));
-			} else {
-				this.processors.add(new DefaultProcessorWrapper(processor));
-			}
+			this.processors.add(new DefaultProcessorWrapper(processor));
 		}
 
 		this.processors.sort(AnnotationAwareOrderComparator.INSTANCE);
+		this.matcher = new ResourceProcessorMatcher<>(this.processors, ProcessorWrapper::getTargetType);
+		this.executor = null;
+		this.parallelismThreshold = Integer.MAX_VALUE;
+	}
+
+	private ResourceProcessorInvoker(List<ProcessorWrapper> processors, ResourceProcessorMatcher<ProcessorWrapper> matcher,
+			Executor executor, int parallelismThreshold) {
+
+		this.processors = processors;
+		this.matcher = matcher;
+		this.executor = executor;
+		this.parallelismThreshold = parallelismThreshold;
+	}
+
+	/**
+	 * Returns a new {@link ResourceProcessorInvoker} that processes the elements of {@link Resources} instances on the
+	 * given {@link Executor} if they contain at least the given number of elements and all {@link ResourceProcessor}s
+	 * applying to the elements are annotated with {@link ConcurrentResourceProcessor}. The order of the elements is
+	 * retained.
+	 * 
+	 * @param executor must not be {@literal null}.
+	 * @param threshold the minimum number of elements to process in parallel, must be greater than zero.
+	 * @return
+	 */
+	public ResourceProcessorInvoker withParallelProcessing(Executor executor, int threshold) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.isTrue(threshold > 0, "Threshold must be greater than zero!");
+
+		return new ResourceProcessorInvoker(processors, matcher, executor, threshold);
 	}
 
 	/**
@@ -104,38 +132,82 @@ public class ResourceProcessorInvoker {
 			Resources<?> resources = (Resources<?>) value;
 			ResolvableType elementTargetType = ResolvableType.forClass(Resources.class, referenceType.getRawClass())
 					.getGeneric(0);
-			List<Object> result = new ArrayList<>(resources.getContent().size());
+			List<Invocation> invocations = new ArrayList<>(resources.getContent().size());
 
 			for (Object element : resources) {
 
-				ResolvableType elementType = ResolvableType.forClass(element.getClass());
-
-				if (!getRawType(elementTargetType).equals(elementType.getRawClass())) {
-					elementTargetType = elementType;
+				if (!getRawType(elementTargetType).equals(element.getClass())) {
+					elementTargetType = ResolvableType.forClass(element.getClass());
 				}
 
-				result.add(invokeProcessorsFor(element, elementTargetType));
+				invocations.add(new Invocation(element, elementTargetType));
 			}
 
-			ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources, result);
+			ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources,
+					invokeAll(invocations));
 		}
 
 		return (T) invokeProcessorsFor((Object) value, referenceType);
 	}
 
 	/**
-	 * Invokes all registered {@link ResourceProcessor}s registered for the given {@link ResolvableType}.
+	 * Runs the given {@link Invocation}s and returns their results in the same order. Uses the configured
+	 * {@link Executor} if parallel processing is enabled and applicable to all of the {@link Invocation}s.
+	 * 
+	 * @param invocations must not be {@literal null}.
+	 * @return
+	 */
+	private List<Object> invokeAll(List<Invocation> invocations) {
+
+		List<Object> result = new ArrayList<>(invocations.size());
+
+		if (executor == null || invocations.size() < parallelismThreshold
+				|| !invocations.stream().allMatch(Invocation::isThreadSafe)) {
+
+			for (Invocation invocation : invocations) {
+				result.add(invocation.run().complete());
+			}
+
+			return result;
+		}
+
+		for (Invocation invocation : ExecutorUtils.invokeAll(invocations.stream() //
+				.<Supplier<Invocation>> map(it -> it::run) //
+				.collect(Collectors.toList()), executor, "resource processors")) {
+			result.add(invocation.complete());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Invokes all registered {@link ResourceProcessor}s registered for the given {@link ResolvableType}. The processors
+	 * applicable to a combination of type and value shape are looked up once and cached. If a processor replaces the
+	 * value with a different instance, the remaining processors are matched against the new value individually.
 	 * 
 	 * @param value the object to process
 	 * @param type
 	 * @return
 	 */
 	private Object invokeProcessorsFor(Object value, ResolvableType type) {
+		return new Invocation(value, type).run().complete();
+	}
+
+	/**
+	 * Invokes all processors following the given one that support the given value without consulting the dispatch
+	 * cache as the value has been replaced by a previous processor.
+	 * 
+	 * @param value the object to process
+	 * @param type
+	 * @param last the processor that was invoked last, must not be {@literal null}.
+	 * @return
+	 */
+	private Object invokeRemainingProcessors(Object value, ResolvableType type, ProcessorWrapper last) {
 
 		Object currentValue = value;
 
-		// Process actual value
-		for (ResourceProcessorInvoker.ProcessorWrapper wrapper : this.processors) {
+		for (ProcessorWrapper wrapper : this.processors.subList(this.processors.indexOf(last) + 1,
+				this.processors.size())) {
 			if (wrapper.supports(type, currentValue)) {
 				currentValue = wrapper.invokeProcessor(currentValue);
 			}
@@ -144,16 +216,60 @@ public class ResourceProcessorInvoker {
 		return currentValue;
 	}
 
-	private static boolean isRawTypeAssignable(ResolvableType left, Class<?> right) {
-		return getRawType(left).isAssignableFrom(right);
-	}
-
 	private static Class<?> getRawType(ResolvableType type) {
 
 		Class<?> rawType = type.getRawClass();
 		return rawType == null ? Object.class : rawType;
 	}
 
+	/**
+	 * The invocation of the processors applicable to a single value. {@link #run()} only invokes the processors looked
+	 * up upfront and might thus be executed on a different thread. If a processor replaces the value, {@link #complete()}
+	 * matches the remaining processors against the new value on the calling thread.
+	 *
+	 * @author agent
+	 */
+	private class Invocation {
+
+		private final ResolvableType type;
+		private final List<ProcessorWrapper> candidates;
+		private Object value;
+		private ProcessorWrapper replacedBy;
+
+		Invocation(Object value, ResolvableType type) {
+
+			this.type = type;
+			this.value = value;
+			this.candidates = matcher.getProcessorsFor(value, type);
+		}
+
+		boolean isThreadSafe() {
+			return candidates.stream().allMatch(ProcessorWrapper::isThreadSafe);
+		}
+
+		Invocation run() {
+
+			for (ProcessorWrapper candidate : candidates) {
+
+				Object result = candidate.invokeProcessor(value);
+
+				if (result != value) {
+
+					this.value = result;
+					this.replacedBy = candidate;
+
+					break;
+				}
+			}
+
+			return this;
+		}
+
+		Object complete() {
+			return replacedBy == null ? value : invokeRemainingProcessors(value, type, replacedBy);
+		}
+	}
+
 	/**
 	 * Interface to unify interaction with {@link ResourceProcessor}s. The {@link Ordered} rank should be determined by
 	 * the underlying processor.
@@ -179,6 +295,21 @@ public class ResourceProcessorInvoker {
 		 * @param object
 		 */
 		Object invokeProcessor(Object object);
+
+		/**
+		 * Returns whether the underlying processor can be invoked concurrently.
+		 * 
+		 * @return
+		 * @see ConcurrentResourceProcessor
+		 */
+		boolean isThreadSafe();
+
+		/**
+		 * Returns the target type the underlying {@link ResourceProcessor} wants to get invoked for.
+		 * 
+		 * @return
+		 */
+		ResolvableType getTargetType();
 	}
 
 	/**
@@ -190,6 +321,7 @@ public class ResourceProcessorInvoker {
 
 		private final ResourceProcessor<?> processor;
 		private final ResolvableType targetType;
+		private final boolean threadSafe;
 
 		/**
 		 * Creates a new {@link DefaultProcessorWrapper} with the given {@link ResourceProcessor}.
@@ -201,7 +333,9 @@ public class ResourceProcessorInvoker {
 			Assert.notNull(processor, "Processor must not be null!");
 
 			this.processor = processor;
-			this.targetType = ResolvableType.forClass(ResourceProcessor.class, processor.getClass()).getGeneric(0);
+			this.targetType = ResourceProcessorMatcher.resolveTargetType(processor, ResourceProcessor.class);
+			this.threadSafe = AnnotatedElementUtils.hasAnnotation(AopUtils.getTargetClass(processor),
+					ConcurrentResourceProcessor.class);
 		}
 
 		/*
@@ -210,7 +344,7 @@ public class ResourceProcessorInvoker {
 		 */
 		@Override
 		public boolean supports(ResolvableType type, Object value) {
-			return isRawTypeAssignable(targetType, getRawType(type));
+			return ResourceProcessorMatcher.supports(targetType, type, value);
 		}
 
 		/* 
@@ -225,91 +359,29 @@ public class ResourceProcessorInvoker {
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.core.Ordered#getOrder()
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#isThreadSafe()
 		 */
 		@Override
-		public int getOrder() {
-			return CustomOrderAwareComparator.INSTANCE.getOrder(processor);
-		}
-
-		/**
-		 * Returns the target type the underlying {@link ResourceProcessor} wants to get invoked for.
-		 * 
-		 * @return the targetType
-		 */
-		public ResolvableType getTargetType() {
-			return targetType;
-		}
-	}
-
-	/**
-	 * {@link ProcessorWrapper} to deal with {@link ResourceProcessor}s for {@link Resource}s. Will fall back to peeking
-	 * into the {@link Resource}'s content for type resolution.
-	 * 
-	 * @author Oliver Gierke
-	 */
-	private static class ResourceProcessorWrapper extends ResourceProcessorInvoker.DefaultProcessorWrapper {
-
-		/**
-		 * Creates a new {@link ResourceProcessorWrapper} for the given {@link ResourceProcessor}.
-		 * 
-		 * @param processor must not be {@literal null}.
-		 */
-		public ResourceProcessorWrapper(ResourceProcessor<?> processor) {
-			super(processor);
+		public boolean isThreadSafe() {
+			return threadSafe;
 		}
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler.DefaultProcessorWrapper#supports(org.springframework.core.ResolvableType, java.lang.Object)
+		 * @see org.springframework.core.Ordered#getOrder()
 		 */
 		@Override
-		public boolean supports(ResolvableType type, Object value) {
-
-			if (!ResourceProcessorHandlerMethodReturnValueHandler.RESOURCE_TYPE.isAssignableFrom(type)) {
-				return false;
-			}
-
-			return super.supports(type, value) && isValueTypeMatch((Resource<?>) value, getTargetType());
+		public int getOrder() {
+			return CustomOrderAwareComparator.INSTANCE.getOrder(processor);
 		}
 
-		/**
-		 * Returns whether the given {@link Resource} matches the given target {@link ResolvableType}. We inspect the
-		 * {@link Resource}'s value to determine the match.
-		 * 
-		 * @param resource
-		 * @param target must not be {@literal null}.
-		 * @return whether the given {@link Resource} can be assigned to the given target {@link ResolvableType}
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#getTargetType()
 		 */
-		private static boolean isValueTypeMatch(Resource<?> resource, ResolvableType target) {
-
-			if (resource == null || !isRawTypeAssignable(target, resource.getClass())) {
-				return false;
-			}
-
-			Object content = resource.getContent();
-
-			if (content == null) {
-				return false;
-			}
-
-			ResolvableType type = findGenericType(target, Resource.class);
-			return type != null && type.getGeneric(0).isAssignableFrom(ResolvableType.forClass(content.getClass()));
-		}
-
-		private static ResolvableType findGenericType(ResolvableType source, Class<?> type) {
-
-			Class<?> rawType = getRawType(source);
-
-			if (Object.class.equals(rawType)) {
-				return null;
-			}
-
-			if (rawType.equals(type)) {
-				return source;
-			}
-
-			return findGenericType(source.getSuperType(), type);
+		@Override
+		public ResolvableType getTargetType() {
+			return targetType;
 		}
 	}
 
@@ -330,20 +402,6 @@ public class ResourceProcessorInvoker {
 			super(processor);
 		}
 
-		/*
-		 * (non-Javadoc)
-		 * @see org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler.DefaultProcessorWrapper#supports(org.springframework.core.ResolvableType, java.lang.Object)
-		 */
-		@Override
-		public boolean supports(ResolvableType type, Object value) {
-
-			if (!ResourceProcessorHandlerMethodReturnValueHandler.RESOURCES_TYPE.isAssignableFrom(type)) {
-				return false;
-			}
-
-			return super.supports(type, value) && isValueTypeMatch((Resources<?>) value, getTargetType());
-		}
-
 		/**
 		 * Returns whether the given {@link Resources} instance matches the given {@link ResolvableType}. We predict this by
 		 * inspecting the first element of the content of the {@link Resources}.
@@ -353,70 +411,7 @@ public class ResourceProcessorInvoker {
 		 * @return
 		 */
 		static boolean isValueTypeMatch(Resources<?> resources, ResolvableType target) {
-
-			if (resources == null) {
-				return false;
-			}
-
-			Collection<?> content = resources.getContent();
-
-			if (content.isEmpty()) {
-				return false;
-			}
-
-			ResolvableType superType = null;
-
-			for (Class<?> resourcesType : Arrays.<Class<?>>asList(resources.getClass(), Resources.class)) {
-
-				superType = getSuperType(target, resourcesType);
-
-				if (superType != null) {
-					break;
-				}
-			}
-
-			if (superType == null) {
-				return false;
-			}
-
-			Object element = content.iterator().next();
-			ResolvableType resourceType = superType.getGeneric(0);
-
-			if (element instanceof Resource) {
-				return ResourceProcessorWrapper.isValueTypeMatch((Resource<?>) element, resourceType);
-			} else if (element instanceof EmbeddedWrapper) {
-				return isRawTypeAssignable(resourceType, ((EmbeddedWrapper) element).getRelTargetType());
-			}
-
-			return false;
-		}
-
-		/**
-		 * Returns the {@link ResolvableType} for the given raw super class.
-		 * 
-		 * @param source must not be {@literal null}.
-		 * @param superType must not be {@literal null}.
-		 * @return
-		 */
-		private static ResolvableType getSuperType(ResolvableType source, Class<?> superType) {
-
-			if (source.getRawClass().equals(superType)) {
-				return source;
-			}
-
-			ResolvableType candidate = source.getSuperType();
-
-			if (superType.isAssignableFrom(candidate.getRawClass())) {
-				return candidate;
-			}
-
-			for (ResolvableType interfaces : source.getInterfaces()) {
-				if (superType.isAssignableFrom(interfaces.getRawClass())) {
-					return interfaces;
-				}
-			}
-
-			return ResolvableType.forClass(superType);
+			return ResourceProcessorMatcher.isValueTypeMatch(resources, target);
 		}
 	}
 
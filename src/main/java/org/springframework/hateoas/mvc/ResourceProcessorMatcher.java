@@ -0,0 +1,341 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Matches processors against the values to be processed based on the type the processors declare to process.
+ * Processors for {@link Resource} and {@link Resources} are additionally matched against the content of the value. The
+ * processors applicable to a combination of type and value shape are looked up once and cached. Used by both
+ * {@link ResourceProcessorInvoker} and its reactive counterpart.
+ *
+ * @param <P> the type of processors to match.
+ * @author agent
+ * @since 1.0
+ */
+public class ResourceProcessorMatcher<P> {
+
+	private final List<Candidate<P>> candidates;
+	private final Map<DispatchKey, List<P>> dispatch;
+
+	/**
+	 * Creates a new {@link ResourceProcessorMatcher} for the given processors and the {@link Function} to resolve the
+	 * type each of them wants to get invoked for.
+	 *
+	 * @param processors the processors in the order they're supposed to be invoked in, must not be {@literal null}.
+	 * @param targetTypeResolver must not be {@literal null}.
+	 * @see #resolveTargetType(Object, Class)
+	 */
+	public ResourceProcessorMatcher(List<? extends P> processors, Function<? super P, ResolvableType> targetTypeResolver) {
+
+		Assert.notNull(processors, "Processors must not be null!");
+		Assert.notNull(targetTypeResolver, "Target type resolver must not be null!");
+
+		this.candidates = new ArrayList<>(processors.size());
+		this.dispatch = new ConcurrentReferenceHashMap<>();
+
+		for (P processor : processors) {
+			this.candidates.add(new Candidate<>(processor, targetTypeResolver.apply(processor)));
+		}
+	}
+
+	/**
+	 * Returns the type the given processor wants to get invoked for, i.e. the first generic parameter of the given
+	 * processor interface. Processors implementing {@link ResolvableTypeProvider} can expose the processor type they
+	 * stand in for.
+	 *
+	 * @param processor must not be {@literal null}.
+	 * @param processorInterface the generic processor interface, e.g. {@link ResourceProcessor}, must not be
+	 *          {@literal null}.
+	 * @return
+	 */
+	public static ResolvableType resolveTargetType(Object processor, Class<?> processorInterface) {
+
+		Assert.notNull(processor, "Processor must not be null!");
+		Assert.notNull(processorInterface, "Processor interface must not be null!");
+
+		ResolvableType processorType = processor instanceof ResolvableTypeProvider
+				? ((ResolvableTypeProvider) processor).getResolvableType()
+				: ResolvableType.forClass(processorInterface, AopUtils.getTargetClass(processor));
+
+		return processorType.as(processorInterface).getGeneric(0);
+	}
+
+	/**
+	 * Returns all processors applicable to the given value and reference type in invocation order.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public List<P> getProcessorsFor(Object value, ResolvableType type) {
+
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(type, "Reference type must not be null!");
+
+		return dispatch.computeIfAbsent(DispatchKey.of(type, value), it -> lookupProcessorsFor(value, type));
+	}
+
+	/**
+	 * Returns whether a processor targeting the given type supports the given value of the given reference type.
+	 *
+	 * @param targetType the type the processor wants to get invoked for, must not be {@literal null}.
+	 * @param type the reference type of the value to be processed, must not be {@literal null}.
+	 * @param value the value that would be handed to the processor eventually, can be {@literal null}.
+	 * @return
+	 */
+	static boolean supports(ResolvableType targetType, ResolvableType type, Object value) {
+
+		Class<?> rawTargetType = getRawType(targetType);
+
+		if (Resource.class.isAssignableFrom(rawTargetType)) {
+
+			return ResourceProcessorHandlerMethodReturnValueHandler.RESOURCE_TYPE.isAssignableFrom(type) //
+					&& isRawTypeAssignable(targetType, getRawType(type)) //
+					&& isValueTypeMatch((Resource<?>) value, targetType);
+		}
+
+		if (Resources.class.isAssignableFrom(rawTargetType)) {
+
+			return ResourceProcessorHandlerMethodReturnValueHandler.RESOURCES_TYPE.isAssignableFrom(type) //
+					&& isRawTypeAssignable(targetType, getRawType(type)) //
+					&& isValueTypeMatch((Resources<?>) value, targetType);
+		}
+
+		return isRawTypeAssignable(targetType, getRawType(type));
+	}
+
+	/**
+	 * Returns whether the given {@link Resources} instance matches the given {@link ResolvableType}. We predict this by
+	 * inspecting the first element of the content of the {@link Resources}.
+	 *
+	 * @param resources the {@link Resources} to inspect.
+	 * @param target that target {@link ResolvableType}.
+	 * @return
+	 */
+	static boolean isValueTypeMatch(Resources<?> resources, ResolvableType target) {
+
+		if (resources == null) {
+			return false;
+		}
+
+		Collection<?> content = resources.getContent();
+
+		if (content.isEmpty()) {
+			return false;
+		}
+
+		ResolvableType superType = null;
+
+		for (Class<?> resourcesType : Arrays.<Class<?>> asList(resources.getClass(), Resources.class)) {
+
+			superType = getSuperType(target, resourcesType);
+
+			if (superType != null) {
+				break;
+			}
+		}
+
+		if (superType == null) {
+			return false;
+		}
+
+		Object element = content.iterator().next();
+		ResolvableType resourceType = superType.getGeneric(0);
+
+		if (element instanceof Resource) {
+			return isValueTypeMatch((Resource<?>) element, resourceType);
+		} else if (element instanceof EmbeddedWrapper) {
+			return isRawTypeAssignable(resourceType, ((EmbeddedWrapper) element).getRelTargetType());
+		}
+
+		return false;
+	}
+
+	private List<P> lookupProcessorsFor(Object value, ResolvableType type) {
+
+		List<P> result = new ArrayList<>();
+
+		for (Candidate<P> candidate : candidates) {
+			if (supports(candidate.getTargetType(), type, value)) {
+				result.add(candidate.getProcessor());
+			}
+		}
+
+		return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns whether the given {@link Resource} matches the given target {@link ResolvableType}. We inspect the
+	 * {@link Resource}'s value to determine the match.
+	 *
+	 * @param resource
+	 * @param target must not be {@literal null}.
+	 * @return whether the given {@link Resource} can be assigned to the given target {@link ResolvableType}
+	 */
+	private static boolean isValueTypeMatch(Resource<?> resource, ResolvableType target) {
+
+		if (resource == null || !isRawTypeAssignable(target, resource.getClass())) {
+			return false;
+		}
+
+		Object content = resource.getContent();
+
+		if (content == null) {
+			return false;
+		}
+
+		ResolvableType type = findGenericType(target, Resource.class);
+		return type != null && type.getGeneric(0).isAssignableFrom(ResolvableType.forClass(content.getClass()));
+	}
+
+	private static ResolvableType findGenericType(ResolvableType source, Class<?> type) {
+
+		Class<?> rawType = getRawType(source);
+
+		if (Object.class.equals(rawType)) {
+			return null;
+		}
+
+		if (rawType.equals(type)) {
+			return source;
+		}
+
+		return findGenericType(source.getSuperType(), type);
+	}
+
+	/**
+	 * Returns the {@link ResolvableType} for the given raw super class.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param superType must not be {@literal null}.
+	 * @return
+	 */
+	private static ResolvableType getSuperType(ResolvableType source, Class<?> superType) {
+
+		if (source.getRawClass().equals(superType)) {
+			return source;
+		}
+
+		ResolvableType candidate = source.getSuperType();
+
+		if (superType.isAssignableFrom(candidate.getRawClass())) {
+			return candidate;
+		}
+
+		for (ResolvableType interfaces : source.getInterfaces()) {
+			if (superType.isAssignableFrom(interfaces.getRawClass())) {
+				return interfaces;
+			}
+		}
+
+		return ResolvableType.forClass(superType);
+	}
+
+	private static boolean isRawTypeAssignable(ResolvableType left, Class<?> right) {
+		return getRawType(left).isAssignableFrom(right);
+	}
+
+	private static Class<?> getRawType(ResolvableType type) {
+
+		Class<?> rawType = type.getRawClass();
+		return rawType == null ? Object.class : rawType;
+	}
+
+	@Value
+	private static class Candidate<P> {
+
+		P processor;
+		ResolvableType targetType;
+	}
+
+	/**
+	 * Cache key capturing everything {@link ResourceProcessorMatcher#supports(ResolvableType, ResolvableType, Object)}
+	 * inspects: the reference type, the value's type and the types of the content the value wraps.
+	 *
+	 * @author agent
+	 */
+	@Value(staticConstructor = "of")
+	private static class DispatchKey {
+
+		ResolvableType type;
+		Class<?> valueType;
+		List<Class<?>> contentTypes;
+
+		static DispatchKey of(ResolvableType type, Object value) {
+			return of(type, value.getClass(), getContentTypes(value));
+		}
+
+		/**
+		 * Returns the types of the content the given value wraps as far as it is considered for processor matching, i.e.
+		 * the content of a {@link Resource} or the first element of {@link Resources}.
+		 *
+		 * @param value must not be {@literal null}.
+		 * @return
+		 */
+		private static List<Class<?>> getContentTypes(Object value) {
+
+			if (value instanceof Resource) {
+				return Collections.singletonList(getType(((Resource<?>) value).getContent()));
+			}
+
+			if (!(value instanceof Resources)) {
+				return Collections.emptyList();
+			}
+
+			Collection<?> content = ((Resources<?>) value).getContent();
+
+			if (content.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			Object element = content.iterator().next();
+
+			if (element instanceof Resource) {
+				return Arrays.asList(element.getClass(), getType(((Resource<?>) element).getContent()));
+			}
+
+			if (element instanceof EmbeddedWrapper) {
+				return Arrays.asList(EmbeddedWrapper.class, ((EmbeddedWrapper) element).getRelTargetType());
+			}
+
+			return Collections.singletonList(element.getClass());
+		}
+
+		private static Class<?> getType(Object value) {
+			return value == null ? null : value.getClass();
+		}
+	}
+}
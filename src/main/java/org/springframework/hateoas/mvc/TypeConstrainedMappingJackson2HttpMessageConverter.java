@@ -15,25 +15,35 @@
  */
 package org.springframework.hateoas.mvc;
 
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Extension of {@link MappingJackson2HttpMessageConverter} to constrain the ability to read and write HTTP message
  * based on the target type. Useful in case the {@link ObjectMapper} about to be configured has customizations that
- * shall only be applied to object trees of a certain base type.
+ * shall only be applied to object trees of a certain base type. The decisions whether a type can be read or written
+ * for a {@link MediaType} are cached until the {@link ObjectMapper} or the supported {@link MediaType}s change.
  * 
  * @author Oliver Gierke
+ * @author agent
  */
 public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
 
 	private final Class<?> type;
+	private final Map<DecisionKey, Boolean> readDecisions = new ConcurrentReferenceHashMap<>();
+	private final Map<DecisionKey, Boolean> writeDecisions = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link TypeConstrainedMappingJackson2HttpMessageConverter} for the given type.
@@ -66,7 +76,13 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 	 */
 	@Override
 	public boolean canRead(Class<?> clazz, MediaType mediaType) {
-		return type.isAssignableFrom(clazz) && super.canRead(clazz, mediaType);
+
+		if (!type.isAssignableFrom(clazz)) {
+			return false;
+		}
+
+		return readDecisions.computeIfAbsent(DecisionKey.of(clazz, null, mediaType),
+				it -> super.canRead(clazz, mediaType));
 	}
 
 	/* 
@@ -75,8 +91,10 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 	 */
 	@Override
 	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
-		return this.type.isAssignableFrom(getJavaType(type, contextClass).getRawClass())
-				&& super.canRead(type, contextClass, mediaType);
+
+		return readDecisions.computeIfAbsent(DecisionKey.of(type, contextClass, mediaType),
+				it -> this.type.isAssignableFrom(getJavaType(type, contextClass).getRawClass())
+						&& super.canRead(type, contextClass, mediaType));
 	}
 
 	/* 
@@ -85,6 +103,64 @@ public class TypeConstrainedMappingJackson2HttpMessageConverter extends MappingJ
 	 */
 	@Override
 	public boolean canWrite(Class<?> clazz, MediaType mediaType) {
-		return type.isAssignableFrom(clazz) && super.canWrite(clazz, mediaType);
+
+		if (!type.isAssignableFrom(clazz)) {
+			return false;
+		}
+
+		return writeDecisions.computeIfAbsent(DecisionKey.of(clazz, null, mediaType),
+				it -> super.canWrite(clazz, mediaType));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#setObjectMapper(com.fasterxml.jackson.databind.ObjectMapper)
+	 */
+	@Override
+	public void setObjectMapper(ObjectMapper objectMapper) {
+
+		super.setObjectMapper(objectMapper);
+		clearDecisions();
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.AbstractHttpMessageConverter#setSupportedMediaTypes(java.util.List)
+	 */
+	@Override
+	public void setSupportedMediaTypes(List<MediaType> supportedMediaTypes) {
+
+		super.setSupportedMediaTypes(supportedMediaTypes);
+		clearDecisions();
+	}
+
+	private void clearDecisions() {
+
+		// Invoked from the super class constructor before the fields are initialized
+		if (readDecisions != null) {
+			readDecisions.clear();
+			writeDecisions.clear();
+		}
+	}
+
+	/**
+	 * Key for the cached read and write decisions. Only captures the parts of the {@link MediaType} the decision depends
+	 * on, so that arbitrary parameters sent by clients don't create new cache entries.
+	 */
+	@Value
+	@RequiredArgsConstructor
+	private static class DecisionKey {
+
+		private final Type type;
+		private final Class<?> contextClass;
+		private final String mediaType, mediaSubtype;
+		private final Charset charset;
+
+		static DecisionKey of(Type type, Class<?> contextClass, MediaType mediaType) {
+
+			return mediaType == null //
+					? new DecisionKey(type, contextClass, null, null, null) //
+					: new DecisionKey(type, contextClass, mediaType.getType(), mediaType.getSubtype(), mediaType.getCharset());
+		}
 	}
 }
@@ -15,19 +15,31 @@
  */
 package org.springframework.hateoas.mvc;
 
-import java.net.URI;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UrlPathHelper;
 
 /**
  * Factory class for {@link UriComponentsBuilder} instances caching the lookups to avoid unnecessary subsequent lookups.
+ * The base URI of a request is cached as request attribute and in a cache shared across requests keyed by all request
+ * properties that contribute to it, so that requests with the same scheme, host, port, context and servlet path don't
+ * have to resolve it again. As the host is client controlled, the shared cache is bounded and evicts the least recently
+ * used entry once full. Forwarded headers are expected to have been applied to those properties
+ * by a {@link org.springframework.web.filter.ForwardedHeaderFilter} already.
  *
  * @author Michal Stochmialek
  * @author Oliver Gierke
@@ -36,6 +48,10 @@ class UriComponentsBuilderFactory {
 
 	static final String REQUEST_ATTRIBUTES_MISSING = "Could not find current request via RequestContextHolder. Is this being called from a Spring MVC handler?";
 	private static final String CACHE_KEY = ControllerLinkBuilder.class.getName() + "#BUILDER_CACHE";
+	private static final int MAX_CACHE_SIZE = 256;
+	private static final Map<BaseUriKey, UriComponents> BASE_URIS = Collections.synchronizedMap(new LruCache<>());
+	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+	private static final UriComponents ROOT = UriComponentsBuilder.fromPath("/").build();
 
 	/**
 	 * Returns a {@link UriComponentsBuilder} obtained from the current servlet mapping with scheme tweaked in case the
@@ -51,11 +67,43 @@ class UriComponentsBuilderFactory {
 			return UriComponentsBuilder.fromPath("/");
 		}
 
-		URI baseUri = getCachedBaseUri();
+		return UriComponentsBuilder.newInstance().uriComponents(getComponents());
+	}
+
+	/**
+	 * Returns the immutable, already encoded {@link UriComponents} of the base URI of the current request or a root
+	 * relative one in case no current request can be found.
+	 *
+	 * @return
+	 * @see #getBuilder()
+	 */
+	static UriComponents getComponents() {
+
+		if (RequestContextHolder.getRequestAttributes() == null) {
+			return ROOT;
+		}
+
+		RequestAttributes attributes = getRequestAttributes();
+		UriComponents components = (UriComponents) attributes.getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
+
+		if (components != null) {
+			return components;
+		}
+
+		HttpServletRequest request = getCurrentRequest();
+		BaseUriKey key = BaseUriKey.of(request);
+
+		components = BASE_URIS.get(key);
+
+		if (components == null) {
 
-		return baseUri != null //
-				? UriComponentsBuilder.fromUri(baseUri) //
-				: cacheBaseUri(ServletUriComponentsBuilder.fromServletMapping(getCurrentRequest()));
+			components = ServletUriComponentsBuilder.fromServletMapping(request).build().encode();
+			BASE_URIS.put(key, components);
+		}
+
+		attributes.setAttribute(CACHE_KEY, components, RequestAttributes.SCOPE_REQUEST);
+
+		return components;
 	}
 
 	/**
@@ -83,16 +131,49 @@ class UriComponentsBuilderFactory {
 		return requestAttributes;
 	}
 
-	private static UriComponentsBuilder cacheBaseUri(UriComponentsBuilder builder) {
+	/**
+	 * All properties of an {@link HttpServletRequest} that
+	 * {@link ServletUriComponentsBuilder#fromServletMapping(HttpServletRequest)} considers.
+	 *
+	 * @author agent
+	 */
+	@Value(staticConstructor = "of")
+	private static class BaseUriKey {
 
-		URI uri = builder.build().toUri();
+		String scheme, host;
+		int port;
+		String contextPath, servletPath;
+		boolean pathWithinServletMapping;
 
-		getRequestAttributes().setAttribute(CACHE_KEY, uri, RequestAttributes.SCOPE_REQUEST);
+		static BaseUriKey of(HttpServletRequest request) {
 
-		return builder;
+			return BaseUriKey.of(request.getScheme(), request.getServerName(), request.getServerPort(),
+					request.getContextPath(), request.getServletPath(),
+					StringUtils.hasText(URL_PATH_HELPER.getPathWithinServletMapping(request)));
+		}
 	}
 
-	private static URI getCachedBaseUri() {
-		return (URI) getRequestAttributes().getAttribute(CACHE_KEY, RequestAttributes.SCOPE_REQUEST);
+	/**
+	 * Access ordered {@link LinkedHashMap} evicting the least recently used entry once it holds more than
+	 * {@value #MAX_CACHE_SIZE} entries. Not thread-safe by itself.
+	 *
+	 * @author agent
+	 */
+	private static class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+		private static final long serialVersionUID = -3154870423538146567L;
+
+		LruCache() {
+			super(16, 0.75f, true);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > MAX_CACHE_SIZE;
+		}
 	}
 }
@@ -27,10 +27,12 @@ import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.AnnotationMappingDiscoverer;
 import org.springframework.hateoas.core.CachingMappingDiscoverer;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.EncodedUri;
 import org.springframework.hateoas.core.MappingDiscoverer;
 import org.springframework.hateoas.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.core.UriTemplateFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.DefaultUriTemplateHandler;
@@ -55,6 +57,7 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 			.of(new AnnotationMappingDiscoverer(RequestMapping.class));
 	private static final WebMvcLinkBuilderFactory FACTORY = new WebMvcLinkBuilderFactory();
 	private static final CustomUriTemplateHandler HANDLER = new CustomUriTemplateHandler();
+	private static final Map<Class<?>, UriComponents> EXPANDED_MAPPINGS = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link WebMvcLinkBuilder} using the given {@link UriComponentsBuilder}.
@@ -73,6 +76,10 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		super(uriComponents, variables, affordances);
 	}
 
+	WebMvcLinkBuilder(EncodedUri uri, TemplateVariables variables, List<Affordance> affordances) {
+		super(uri, variables, affordances);
+	}
+
 	/**
 	 * Creates a new {@link WebMvcLinkBuilder} with a base of the mapping annotated to the given controller class.
 	 *
@@ -97,12 +104,13 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		Assert.notNull(controller, "Controller must not be null!");
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		String mapping = DISCOVERER.getMapping(controller);
-
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(mapping == null ? "/" : mapping);
-		UriComponents uriComponents = HANDLER.expandAndEncode(builder, parameters);
+		// The mapping expanded without parameters is independent of the current request
+		UriComponents uriComponents = parameters.length == 0 //
+				? EXPANDED_MAPPINGS.computeIfAbsent(controller, it -> expandMapping(it, parameters)) //
+				: expandMapping(controller, parameters);
 
-		return new WebMvcLinkBuilder(UriComponentsBuilderFactory.getBuilder()).slash(uriComponents, true);
+		return new WebMvcLinkBuilder(UriComponentsBuilderFactory.getComponents(), TemplateVariables.NONE,
+				Collections.emptyList()).slash(uriComponents, true);
 	}
 
 	/**
@@ -127,6 +135,15 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		return new WebMvcLinkBuilder(UriComponentsBuilderFactory.getBuilder()).slash(uriComponents, true);
 	}
 
+	private static UriComponents expandMapping(Class<?> controller, Object[] parameters) {
+
+		String mapping = DISCOVERER.getMapping(controller);
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(mapping == null ? "/" : mapping);
+
+		return HANDLER.expandAndEncode(builder, parameters);
+	}
+
 	/*
 	 * @see org.springframework.hateoas.MethodLinkBuilderFactory#linkTo(Method, Object...)
 	 */
@@ -229,6 +246,15 @@ public class WebMvcLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<W
 		return new WebMvcLinkBuilder(builder, variables, affordances);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.TemplateVariableAwareLinkBuilderSupport#createNewInstance(org.springframework.hateoas.core.EncodedUri, java.util.List, org.springframework.hateoas.TemplateVariables)
+	 */
+	@Override
+	protected WebMvcLinkBuilder createNewInstance(EncodedUri uri, List<Affordance> affordances, TemplateVariables variables) {
+		return new WebMvcLinkBuilder(uri, variables, affordances);
+	}
+
 	/**
 	 * Returns a {@link UriComponentsBuilder} to continue to build the already built URI in a more fine grained way.
 	 *
@@ -17,24 +17,50 @@ package org.springframework.hateoas.reactive;
 
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
+
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * {@link WebFilter} that ensures a copy of the {@link ServerWebExchange} is added to the Reactor {@link Context}.
- * 
+ * Also manages the base URI resolved from the exchange's request as exchange attribute so that it only has to be
+ * parsed once per request, no matter how many links get created.
+ *
  * @author Greg Turnquist
+ * @author agent
  * @since 1.0
  */
 public class HypermediaWebFilter implements WebFilter {
 
 	public static final String SERVER_WEB_EXCHANGE = "serverWebExchange";
+	public static final String BASE_URI_COMPONENTS = HypermediaWebFilter.class.getName() + ".BASE_URI_COMPONENTS";
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.server.WebFilter#filter(org.springframework.web.server.ServerWebExchange, org.springframework.web.server.WebFilterChain)
+	 */
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
 
 		return chain.filter(exchange)
 			.subscriberContext(Context.of(SERVER_WEB_EXCHANGE, exchange));
 	}
+
+	/**
+	 * Returns the {@link UriComponents} of the request of the given {@link ServerWebExchange} considering forwarded
+	 * headers. The result is resolved lazily on first access and cached as exchange attribute under
+	 * {@link #BASE_URI_COMPONENTS} so that subsequent link creations within the same request don't re-parse the request
+	 * URI and headers.
+	 *
+	 * @param exchange must not be {@literal null}.
+	 * @return
+	 */
+	static UriComponents getBaseUri(ServerWebExchange exchange) {
+
+		return (UriComponents) exchange.getAttributes().computeIfAbsent(BASE_URI_COMPONENTS,
+				it -> UriComponentsBuilder.fromHttpRequest(exchange.getRequest()).build());
+	}
 }
@@ -17,6 +17,8 @@ package org.springframework.hateoas.reactive;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
@@ -41,7 +43,7 @@ public interface ReactiveResourceAssembler<T, D extends ResourceSupport> {
 
 	/**
 	 * Converts an {@link Iterable} or {@code T}s into an {@link Iterable} of {@link ResourceSupport} and wraps
-	 * them in a {@link Resources} instance.
+	 * them in a {@link Resources} instance. The order of the entities is retained.
 	 *
 	 * @param entities must not be {@literal null}.
 	 * @return {@link Resources} containing {@code D}.
@@ -49,9 +51,35 @@ public interface ReactiveResourceAssembler<T, D extends ResourceSupport> {
 	default Mono<Resources<D>> toResources(Flux<? extends T> entities, ServerWebExchange exchange) {
 
 		return entities
-			.flatMap(entity -> toResource(entity, exchange))
+			.flatMapSequential(entity -> toResource(entity, exchange))
 			.collectList()
 			.map(listOfResources -> new Resources<>(listOfResources));
 	}
 
+	/**
+	 * Converts the given entities into {@code D}s without buffering them, retaining their order.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return {@link StreamingResources} containing {@code D}.
+	 * @see #toStreamingResources(Flux, ServerWebExchange, int, int)
+	 */
+	default StreamingResources<D> toStreamingResources(Flux<? extends T> entities, ServerWebExchange exchange) {
+		return toStreamingResources(entities, exchange, Queues.SMALL_BUFFER_SIZE, Queues.XS_BUFFER_SIZE);
+	}
+
+	/**
+	 * Converts the given entities into {@code D}s without buffering them, retaining their order. Converts up to the given
+	 * number of entities concurrently, a concurrency of 1 converts them one after another.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param concurrency the maximum number of entities to convert concurrently, must be greater than zero.
+	 * @param prefetch the number of converted elements to request from each conversion, must be greater than zero.
+	 * @return {@link StreamingResources} containing {@code D}.
+	 */
+	default StreamingResources<D> toStreamingResources(Flux<? extends T> entities, ServerWebExchange exchange,
+			int concurrency, int prefetch) {
+
+		return new StreamingResources<>(entities.flatMapSequential(entity -> toResource(entity, exchange), concurrency,
+				prefetch));
+	}
 }
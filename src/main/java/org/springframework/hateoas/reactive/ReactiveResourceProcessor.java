@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.ResourceSupport;
+
+/**
+ * Reactive variant of {@link ResourceProcessor} to process the {@link ResourceSupport} instances returned from Spring
+ * WebFlux controllers without blocking.
+ *
+ * @author agent
+ * @since 1.0
+ * @see ResourceProcessor
+ */
+public interface ReactiveResourceProcessor<T extends ResourceSupport> {
+
+	/**
+	 * Processes the given resource, add links, alter the domain data etc.
+	 *
+	 * @param resource will never be {@literal null}.
+	 * @return the processed resource, must not be {@literal null} or empty.
+	 */
+	Mono<T> process(T resource);
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * {@link HandlerResultHandler} to post-process the {@link ResourceSupport} instances returned from controller methods
+ * using the configured {@link ReactiveResourceProcessor}s before handing them to the delegate. Supports plain
+ * {@link ResourceSupport} return values as well as {@link Mono}s and {@link Flux}es of them.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ReactiveResourceProcessorHandlerResultHandler implements HandlerResultHandler, Ordered {
+
+	private final @NonNull HandlerResultHandler delegate;
+	private final @NonNull ReactiveResourceProcessorInvoker invoker;
+	private final int concurrency;
+
+	/**
+	 * Creates a new {@link ReactiveResourceProcessorHandlerResultHandler} for the given delegate and
+	 * {@link ReactiveResourceProcessorInvoker} processing as many elements of a {@link Flux} concurrently as the
+	 * {@link ReactiveResourceProcessorInvoker} processes elements of a {@link org.springframework.hateoas.Resources}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @see ReactiveResourceProcessorInvoker#getConcurrency()
+	 */
+	public ReactiveResourceProcessorHandlerResultHandler(HandlerResultHandler delegate,
+			ReactiveResourceProcessorInvoker invoker) {
+		this(delegate, invoker, Objects.requireNonNull(invoker, "Invoker must not be null!").getConcurrency());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#supports(org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public boolean supports(HandlerResult result) {
+		return delegate.supports(result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.reactive.HandlerResultHandler#handleResult(org.springframework.web.server.ServerWebExchange, org.springframework.web.reactive.HandlerResult)
+	 */
+	@Override
+	public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+
+		Object value = result.getReturnValue();
+		ResolvableType type = result.getReturnType();
+
+		if (value instanceof ResourceSupport) {
+
+			return process(value, type) //
+					.flatMap(it -> delegate.handleResult(exchange, withReturnValue(result, it)));
+		}
+
+		if (value instanceof Mono) {
+
+			Mono<?> processed = ((Mono<?>) value).flatMap(it -> process(it, type.getGeneric(0)));
+
+			return delegate.handleResult(exchange, withReturnValue(result, processed));
+		}
+
+		if (value instanceof Flux) {
+
+			Flux<?> processed = ((Flux<?>) value).flatMapSequential(it -> process(it, type.getGeneric(0)), concurrency);
+
+			return delegate.handleResult(exchange, withReturnValue(result, processed));
+		}
+
+		return delegate.handleResult(exchange, result);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return delegate instanceof Ordered ? ((Ordered) delegate).getOrder() : Ordered.LOWEST_PRECEDENCE;
+	}
+
+	private Mono<?> process(Object value, ResolvableType type) {
+
+		if (!(value instanceof ResourceSupport)) {
+			return Mono.just(value);
+		}
+
+		// Returned value is actually of a more specific type, use this type information
+		ResolvableType referenceType = value.getClass().equals(type.resolve(Object.class)) //
+				? type //
+				: ResolvableType.forClass(value.getClass());
+
+		return invoker.invokeProcessorsFor((ResourceSupport) value, referenceType);
+	}
+
+	private static HandlerResult withReturnValue(HandlerResult result, Object value) {
+
+		HandlerResult newResult = new HandlerResult(result.getHandler(), value, result.getReturnTypeSource(),
+				result.getBindingContext());
+
+		if (result.hasExceptionHandler()) {
+			newResult.setExceptionHandler(result::applyExceptionHandler);
+		}
+
+		return newResult;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.hateoas.mvc.ResourceProcessorMatcher;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Component to invoke all {@link ReactiveResourceProcessor} instances registered for values of type
+ * {@link ResourceSupport}. Uses the same type matching as {@link ResourceProcessorInvoker} through a
+ * {@link ResourceProcessorMatcher}. The elements of
+ * {@link Resources} instances are processed concurrently up to a configurable limit while retaining their order.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class ReactiveResourceProcessorInvoker {
+
+	static final int DEFAULT_CONCURRENCY = 16;
+
+	private static final ResolvableType RESOURCES_TYPE = ResolvableType.forRawClass(Resources.class);
+	private static final Field CONTENT_FIELD = ReflectionUtils.findField(Resources.class, "content");
+
+	static {
+		ReflectionUtils.makeAccessible(CONTENT_FIELD);
+	}
+
+	private final ResourceProcessorMatcher<ReactiveResourceProcessor<?>> matcher;
+	private final boolean hasProcessors;
+	private final int concurrency;
+
+	/**
+	 * Creates a new {@link ReactiveResourceProcessorInvoker} for the given {@link ReactiveResourceProcessor}s processing
+	 * up to 16 elements of a {@link Resources} concurrently.
+	 *
+	 * @param processors must not be {@literal null}.
+	 */
+	public ReactiveResourceProcessorInvoker(Collection<ReactiveResourceProcessor<?>> processors) {
+		this(processors, DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Creates a new {@link ReactiveResourceProcessorInvoker} for the given {@link ReactiveResourceProcessor}s and the
+	 * maximum number of elements of a {@link Resources} to process concurrently.
+	 *
+	 * @param processors must not be {@literal null}.
+	 * @param concurrency must be greater than zero.
+	 */
+	public ReactiveResourceProcessorInvoker(Collection<ReactiveResourceProcessor<?>> processors, int concurrency) {
+
+		Assert.notNull(processors, "ReactiveResourceProcessors must not be null!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+
+		List<ReactiveResourceProcessor<?>> sorted = new ArrayList<>(processors);
+		AnnotationAwareOrderComparator.sort(sorted);
+
+		this.matcher = new ResourceProcessorMatcher<>(sorted,
+				it -> ResourceProcessorMatcher.resolveTargetType(it, ReactiveResourceProcessor.class));
+		this.hasProcessors = !sorted.isEmpty();
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Returns whether any {@link ReactiveResourceProcessor}s are registered at all.
+	 *
+	 * @return
+	 */
+	public boolean hasProcessors() {
+		return hasProcessors;
+	}
+
+	/**
+	 * Returns the maximum number of elements of a {@link Resources} processed concurrently.
+	 *
+	 * @return
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * Invokes all {@link ReactiveResourceProcessor} instances registered for the type of the given value and reference
+	 * type.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param referenceType must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends ResourceSupport> Mono<T> invokeProcessorsFor(T value, ResolvableType referenceType) {
+
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(referenceType, "Reference type must not be null!");
+
+		if (!RESOURCES_TYPE.isAssignableFrom(referenceType)) {
+			return (Mono<T>) invokeProcessorsFor((Object) value, referenceType);
+		}
+
+		// For Resources implementations, process elements first
+		Resources<?> resources = (Resources<?>) value;
+		List<Object> elements = new ArrayList<>(resources.getContent());
+		List<ResolvableType> elementTypes = new ArrayList<>(elements.size());
+		ResolvableType elementTargetType = ResolvableType.forClass(Resources.class, referenceType.getRawClass())
+				.getGeneric(0);
+
+		for (Object element : elements) {
+
+			Class<?> rawType = elementTargetType.getRawClass();
+
+			if (rawType == null || !rawType.equals(element.getClass())) {
+				elementTargetType = ResolvableType.forClass(element.getClass());
+			}
+
+			elementTypes.add(elementTargetType);
+		}
+
+		return Flux.range(0, elements.size()) //
+				.flatMapSequential(it -> invokeProcessorsFor(elements.get(it), elementTypes.get(it)), concurrency) //
+				.collectList() //
+				.doOnNext(it -> ReflectionUtils.setField(CONTENT_FIELD, resources, it)) //
+				.then(Mono.defer(() -> (Mono<T>) invokeProcessorsFor((Object) value, referenceType)));
+	}
+
+	/**
+	 * Invokes all {@link ReactiveResourceProcessor}s applicable to the given value one after another.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private Mono<?> invokeProcessorsFor(Object value, ResolvableType type) {
+
+		Mono<Object> result = Mono.just(value);
+
+		for (ReactiveResourceProcessor<?> candidate : matcher.getProcessorsFor(value, type)) {
+
+			ReactiveResourceProcessor<ResourceSupport> processor = (ReactiveResourceProcessor<ResourceSupport>) candidate;
+
+			result = result.flatMap(it -> processor.process((ResourceSupport) it));
+		}
+
+		return result;
+	}
+}
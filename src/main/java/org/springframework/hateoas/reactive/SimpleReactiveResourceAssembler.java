@@ -18,6 +18,8 @@ package org.springframework.hateoas.reactive;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.Resources;
@@ -53,7 +55,8 @@ public interface SimpleReactiveResourceAssembler<T> extends ReactiveResourceAsse
 	void addLinks(Resource<T> resource, ServerWebExchange exchange);
 
 	/**
-	 * Converts all given entities into resources and wraps the collection as a resource as well.
+	 * Converts all given entities into resources and wraps the collection as a resource as well. The order of the
+	 * entities is retained.
 	 *
 	 * @see #toResource(Object, ServerWebExchange)
 	 * @param entities must not be {@literal null}.
@@ -62,7 +65,7 @@ public interface SimpleReactiveResourceAssembler<T> extends ReactiveResourceAsse
 	default Mono<Resources<Resource<T>>> toResources(Flux<? extends T> entities, ServerWebExchange exchange) {
 
 		return entities //
-				.flatMap(entity -> toResource(entity, exchange)) //
+				.flatMapSequential(entity -> toResource(entity, exchange)) //
 				.collectList() //
 				.map(listOfResources -> {
 					Resources<Resource<T>> resources = new Resources<>(listOfResources);
@@ -71,6 +74,30 @@ public interface SimpleReactiveResourceAssembler<T> extends ReactiveResourceAsse
 				});
 	}
 
+	/**
+	 * Converts the given entities into resources without buffering them, retaining their order. As the content is not
+	 * available upfront, {@link #addLinks(Resources, ServerWebExchange)} is invoked with an empty {@link Resources}
+	 * instance.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param concurrency the maximum number of entities to convert concurrently, must be greater than zero.
+	 * @param prefetch the number of converted elements to request from each conversion, must be greater than zero.
+	 * @return {@link StreamingResources} containing {@link Resource} of {@code T}.
+	 */
+	@Override
+	default StreamingResources<Resource<T>> toStreamingResources(Flux<? extends T> entities, ServerWebExchange exchange,
+			int concurrency, int prefetch) {
+
+		StreamingResources<Resource<T>> resources = ReactiveResourceAssembler.super.toStreamingResources(entities,
+				exchange, concurrency, prefetch);
+
+		Resources<Resource<T>> links = new Resources<>(Collections.emptyList());
+		addLinks(links, exchange);
+		resources.add(links.getLinks());
+
+		return resources;
+	}
+
 	/**
 	 * Define links to add to the {@link Resources} collection.
 	 *
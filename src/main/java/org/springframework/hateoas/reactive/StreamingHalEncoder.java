@@ -0,0 +1,330 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link Jackson2JsonEncoder} to render HAL incrementally. {@link StreamingResources} and {@link Flux}es of
+ * {@link ResourceSupport} are written as HAL document whose {@code _embedded} collection is rendered element by element
+ * as they are emitted instead of collecting all of them first. For {@code application/x-ndjson}, every element is
+ * rendered as individual HAL document on a line of its own. All other values are rendered as with a plain
+ * {@link Jackson2JsonEncoder}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class StreamingHalEncoder extends Jackson2JsonEncoder {
+
+	static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	private static final ResolvableType RESOURCE_SUPPORT_TYPE = ResolvableType.forClass(ResourceSupport.class);
+	private static final ResolvableType STREAMING_RESOURCES_TYPE = ResolvableType.forClass(StreamingResources.class);
+	private static final ResolvableType OBJECT_TYPE = ResolvableType.forClass(Object.class);
+	private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+
+	private boolean renderLinksFirst = true;
+	private int chunkSize = 0;
+
+	/**
+	 * Creates a new {@link StreamingHalEncoder} using the given HAL-enabled {@link ObjectMapper}.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 */
+	public StreamingHalEncoder(ObjectMapper mapper) {
+
+		super(mapper, MediaTypes.HAL_JSON, MediaTypes.HAL_JSON_UTF8, NDJSON);
+
+		setStreamingMediaTypes(Collections.singletonList(NDJSON));
+	}
+
+	/**
+	 * Configures whether to render the top-level {@code _links} before the {@code _embedded} elements (default) or after
+	 * them. Rendering them first requires the first element to be emitted before anything is written.
+	 *
+	 * @param renderLinksFirst
+	 */
+	public void setRenderLinksFirst(boolean renderLinksFirst) {
+		this.renderLinksFirst = renderLinksFirst;
+	}
+
+	/**
+	 * Configures the minimum number of bytes to collect into a single {@link DataBuffer} before handing it to the
+	 * response. Defaults to 0, i.e. every element is handed to the response as soon as it is rendered.
+	 *
+	 * @param chunkSize must not be negative.
+	 */
+	public void setChunkSize(int chunkSize) {
+
+		Assert.isTrue(chunkSize >= 0, "Chunk size must not be negative!");
+
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Returns an {@link HttpMessageWriter} using this encoder. In contrast to a plain {@link EncoderHttpMessageWriter}, it
+	 * also writes {@link StreamingResources} returned as single value incrementally.
+	 *
+	 * @return
+	 */
+	public HttpMessageWriter<Object> toHttpMessageWriter() {
+		return new StreamingHalMessageWriter(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.codec.json.AbstractJackson2Encoder#canEncode(org.springframework.core.ResolvableType, org.springframework.util.MimeType)
+	 */
+	@Override
+	public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+
+		if (mimeType != null && NDJSON.isCompatibleWith(mimeType) && !RESOURCE_SUPPORT_TYPE.isAssignableFrom(elementType)
+				&& !STREAMING_RESOURCES_TYPE.isAssignableFrom(elementType)) {
+			return false;
+		}
+
+		return super.canEncode(elementType, mimeType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.codec.json.AbstractJackson2Encoder#encode(org.reactivestreams.Publisher, org.springframework.core.io.buffer.DataBufferFactory, org.springframework.core.ResolvableType, org.springframework.util.MimeType, java.util.Map)
+	 */
+	@Override
+	public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+			ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+
+		boolean ndjson = mimeType != null && NDJSON.isCompatibleWith(mimeType);
+
+		if (STREAMING_RESOURCES_TYPE.isAssignableFrom(elementType)) {
+
+			return Mono.from(inputStream).flatMapMany(it -> {
+
+				StreamingResources<?> resources = (StreamingResources<?>) it;
+
+				return ndjson //
+						? super.encode(resources.getContent(), bufferFactory, OBJECT_TYPE, mimeType, hints) //
+						: encodeDocument(resources.getContent(), resources.getLinks(), bufferFactory);
+			});
+		}
+
+		if (!ndjson && inputStream instanceof Flux && RESOURCE_SUPPORT_TYPE.isAssignableFrom(elementType)) {
+			return encodeDocument((Flux<?>) inputStream, Links.NONE, bufferFactory);
+		}
+
+		return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+	}
+
+	private Flux<DataBuffer> encodeDocument(Flux<?> content, Links links, DataBufferFactory bufferFactory) {
+
+		return Flux.defer(() -> {
+
+			Document document = new Document(links);
+			Flux<byte[]> parts = content.map(document::encodeElement) //
+					.concatWith(Mono.fromCallable(document::encodeEnd));
+
+			return toDataBuffers(parts, bufferFactory);
+		});
+	}
+
+	private Flux<DataBuffer> toDataBuffers(Flux<byte[]> parts, DataBufferFactory bufferFactory) {
+
+		if (chunkSize == 0) {
+			return parts.map(bufferFactory::wrap);
+		}
+
+		int[] size = { 0 };
+
+		return parts.bufferUntil(it -> {
+
+			size[0] += it.length;
+
+			if (size[0] < chunkSize) {
+				return false;
+			}
+
+			size[0] = 0;
+
+			return true;
+
+		}).map(it -> toDataBuffer(it, bufferFactory));
+	}
+
+	private static DataBuffer toDataBuffer(List<byte[]> chunk, DataBufferFactory bufferFactory) {
+
+		int length = 0;
+
+		for (byte[] part : chunk) {
+			length += part.length;
+		}
+
+		DataBuffer buffer = bufferFactory.allocateBuffer(length);
+
+		for (byte[] part : chunk) {
+			buffer.write(part);
+		}
+
+		return buffer;
+	}
+
+	private byte[] write(Object value) {
+
+		try {
+			return getObjectMapper().writeValueAsBytes(value);
+		} catch (JsonProcessingException o_O) {
+			throw new EncodingException("JSON encoding error: " + o_O.getOriginalMessage(), o_O);
+		}
+	}
+
+	private String toJson(Object value) {
+		return new String(write(value), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] concat(byte[]... parts) {
+
+		int length = 0;
+
+		for (byte[] part : parts) {
+			length += part.length;
+		}
+
+		byte[] result = new byte[length];
+		int position = 0;
+
+		for (byte[] part : parts) {
+			System.arraycopy(part, 0, result, position, part.length);
+			position += part.length;
+		}
+
+		return result;
+	}
+
+	private static byte[] bytes(String source) {
+		return source.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * {@link EncoderHttpMessageWriter} handing {@link StreamingResources} to the encoder as {@link Flux} as the
+	 * {@link Mono} variant only writes the first {@link DataBuffer} produced.
+	 *
+	 * @author agent
+	 */
+	private static class StreamingHalMessageWriter extends EncoderHttpMessageWriter<Object> {
+
+		StreamingHalMessageWriter(StreamingHalEncoder encoder) {
+			super(encoder);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.codec.EncoderHttpMessageWriter#write(org.reactivestreams.Publisher, org.springframework.core.ResolvableType, org.springframework.http.MediaType, org.springframework.http.ReactiveHttpOutputMessage, java.util.Map)
+		 */
+		@Override
+		public Mono<Void> write(Publisher<?> inputStream, ResolvableType elementType, MediaType mediaType,
+				ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+
+			Publisher<?> input = STREAMING_RESOURCES_TYPE.isAssignableFrom(elementType) //
+					? Flux.from(inputStream) //
+					: inputStream;
+
+			return super.write(input, elementType, mediaType, message, hints);
+		}
+	}
+
+	/**
+	 * The state of a single HAL document being rendered. The first element determines the relation to render all
+	 * elements under as well as the top-level {@code _links} as it might require curies to be added.
+	 *
+	 * @author agent
+	 */
+	private class Document {
+
+		private final Links links;
+		private byte[] end;
+
+		Document(Links links) {
+			this.links = links;
+		}
+
+		byte[] encodeElement(Object element) {
+
+			byte[] rendered = write(element);
+
+			if (end != null) {
+				return concat(SEPARATOR, rendered);
+			}
+
+			JsonNode template = getObjectMapper()
+					.valueToTree(new Resources<>(Collections.singletonList(element), links));
+			JsonNode embedded = template.get("_embedded");
+
+			if (embedded == null || !embedded.fieldNames().hasNext()) {
+				throw new EncodingException(String.format("Could not determine relation to embed %s under!", element));
+			}
+
+			JsonNode renderedLinks = template.get("_links");
+
+			String linksPart = renderedLinks == null ? "" : "\"_links\":" + toJson(renderedLinks);
+			String embeddedPart = "\"_embedded\":{" + toJson(embedded.fieldNames().next()) + ":[";
+
+			byte[] start;
+
+			if (renderLinksFirst) {
+
+				start = bytes("{" + (linksPart.isEmpty() ? "" : linksPart + ",") + embeddedPart);
+				end = bytes("]}}");
+
+			} else {
+
+				start = bytes("{" + embeddedPart);
+				end = bytes("]}" + (linksPart.isEmpty() ? "" : "," + linksPart) + "}");
+			}
+
+			return concat(start, rendered);
+		}
+
+		byte[] encodeEnd() {
+			return end != null ? end : write(new Resources<>(Collections.emptyList(), links));
+		}
+	}
+}
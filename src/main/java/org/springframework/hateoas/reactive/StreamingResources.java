@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+
+/**
+ * A collection resource whose content is a {@link Flux} so that it can be rendered incrementally while the elements
+ * are emitted. Use {@link #toResources()} to fall back to a fully buffered {@link Resources} instance.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class StreamingResources<T> {
+
+	private final Flux<T> content;
+	private final List<Link> links;
+
+	/**
+	 * Creates a new {@link StreamingResources} instance for the given content and {@link Link}s.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 */
+	public StreamingResources(Flux<T> content, Link... links) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(links, "Links must not be null!");
+
+		this.content = content;
+		this.links = new ArrayList<>(Arrays.asList(links));
+	}
+
+	/**
+	 * Returns the content elements in the order they are to be rendered in.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Flux<T> getContent() {
+		return content;
+	}
+
+	/**
+	 * Adds the given {@link Link}s to the resource.
+	 *
+	 * @param links must not be {@literal null}.
+	 */
+	public void add(Iterable<Link> links) {
+
+		Assert.notNull(links, "Given links must not be null!");
+
+		links.forEach(this::add);
+	}
+
+	/**
+	 * Adds the given {@link Link} to the resource.
+	 *
+	 * @param link must not be {@literal null}.
+	 */
+	public void add(Link link) {
+
+		Assert.notNull(link, "Link must not be null!");
+
+		this.links.add(link);
+	}
+
+	/**
+	 * Returns all {@link Link}s of the resource.
+	 *
+	 * @return
+	 */
+	public Links getLinks() {
+		return Links.of(links);
+	}
+
+	/**
+	 * Collects the content into a {@link Resources} instance carrying the same {@link Link}s.
+	 *
+	 * @return
+	 */
+	public Mono<Resources<T>> toResources() {
+		return content.collectList().map(it -> new Resources<>(it, links));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("StreamingResources { links: %s }", links);
+	}
+}
@@ -17,6 +17,7 @@ package org.springframework.hateoas.reactive;
 
 import static org.springframework.hateoas.reactive.HypermediaWebFilter.*;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 
@@ -29,6 +30,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.core.DummyInvocationUtils;
+import org.springframework.hateoas.core.EncodedUri;
 import org.springframework.hateoas.core.TemplateVariableAwareLinkBuilderSupport;
 import org.springframework.hateoas.core.WebHandler;
 import org.springframework.util.Assert;
@@ -53,6 +55,10 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		super(components, variables, affordances);
 	}
 
+	private WebFluxLinkBuilder(EncodedUri uri, TemplateVariables variables, List<Affordance> affordances) {
+		super(uri, variables, affordances);
+	}
+
 	/**
 	 * Create a {@link WebFluxLinkBuilder} by checking if the Reactor Context contains a {@link ServerWebExchange} and
 	 * using that combined with the Spring Web annotations to build a full URI. If there is no exchange, then fall back to
@@ -79,6 +85,45 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		return new WebFluxBuilder(linkToInternal(invocation, exchange));
 	}
 
+	/**
+	 * Creates a {@link WebFluxLinkBuilder} for the given invocation and explicitly defined {@link ServerWebExchange}
+	 * right away, i.e. without detouring through a reactive pipeline. Useful if the exchange is already at hand, e.g.
+	 * when assembling representations synchronously within a WebFlux handler method.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @param exchange can be {@literal null}, in which case relative URIs are created.
+	 * @return
+	 */
+	public static WebFluxLinkBuilder builderFor(Object invocation, ServerWebExchange exchange) {
+
+		Assert.notNull(invocation, "Invocation must not be null!");
+
+		return WebHandler.linkTo(invocation, //
+				path -> getBuilder(exchange).replacePath(path == null ? "/" : path), //
+				WebFluxLinkBuilder::new);
+	}
+
+	/**
+	 * Looks up the {@link ServerWebExchange} from the Reactor Context once and hands an {@link ExchangeLinkBuilder} bound
+	 * to it to the given callback. Allows to create many links within a single {@link Mono}:
+	 *
+	 * <pre>
+	 * Mono&lt;List&lt;Link&gt;&gt; links = linksTo(it -&gt; Arrays.asList( //
+	 * 		it.linkTo(methodOn(EmployeeController.class).all()).withSelfRel(), //
+	 * 		it.linkTo(methodOn(EmployeeController.class).findOne(id)).withRel("employee")));
+	 * </pre>
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> Mono<T> linksTo(Function<ExchangeLinkBuilder, T> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		return Mono.subscriberContext() //
+				.map(context -> callback.apply(new ExchangeLinkBuilder(context.getOrDefault(SERVER_WEB_EXCHANGE, null))));
+	}
+
 	/**
 	 * Wrapper for {@link DummyInvocationUtils#methodOn(Class, Object...)} to be available in case you work with static
 	 * imports of {@link WebFluxLinkBuilder}.
@@ -101,6 +146,15 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		return new WebFluxLinkBuilder(builder, variables, affordances);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.TemplateVariableAwareLinkBuilderSupport#createNewInstance(org.springframework.hateoas.core.EncodedUri, java.util.List, org.springframework.hateoas.TemplateVariables)
+	 */
+	@Override
+	protected WebFluxLinkBuilder createNewInstance(EncodedUri uri, List<Affordance> affordances, TemplateVariables variables) {
+		return new WebFluxLinkBuilder(uri, variables, affordances);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.core.LinkBuilderSupport#getThis()
@@ -110,6 +164,29 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 		return this;
 	}
 
+	/**
+	 * Creates {@link WebFluxLinkBuilder}s for a {@link ServerWebExchange} resolved upfront.
+	 *
+	 * @author agent
+	 * @see WebFluxLinkBuilder#linksTo(Function)
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class ExchangeLinkBuilder {
+
+		private final ServerWebExchange exchange;
+
+		/**
+		 * Creates a {@link WebFluxLinkBuilder} for the given invocation.
+		 *
+		 * @param invocation must not be {@literal null}.
+		 * @return
+		 * @see WebFluxLinkBuilder#methodOn(Class, Object...)
+		 */
+		public WebFluxLinkBuilder linkTo(Object invocation) {
+			return builderFor(invocation, exchange);
+		}
+	}
+
 	@RequiredArgsConstructor
 	public static class WebFluxBuilder {
 
@@ -224,15 +301,17 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 	}
 
 	/**
-	 * Returns a {@link UriComponentsBuilder} obtained from the {@link ServerWebExchange}.
+	 * Returns a {@link UriComponentsBuilder} obtained from the {@link ServerWebExchange}. Uses the base URI cached for
+	 * the exchange to avoid re-parsing the request for every link created.
 	 *
 	 * @param exchange
+	 * @see HypermediaWebFilter#getBaseUri(ServerWebExchange)
 	 */
 	private static UriComponentsBuilder getBuilder(ServerWebExchange exchange) {
 
 		return exchange == null //
 				? UriComponentsBuilder.fromPath("/") //
-				: UriComponentsBuilder.fromHttpRequest(exchange.getRequest());
+				: UriComponentsBuilder.newInstance().uriComponents(getBaseUri(exchange));
 	}
 
 	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation) {
@@ -242,9 +321,6 @@ public class WebFluxLinkBuilder extends TemplateVariableAwareLinkBuilderSupport<
 	}
 
 	private static Mono<WebFluxLinkBuilder> linkToInternal(Object invocation, ServerWebExchange exchange) {
-
-		return Mono.just(WebHandler.linkTo(invocation, //
-				path -> getBuilder(exchange).replacePath(path == null ? "/" : path), //
-				WebFluxLinkBuilder::new));
+		return Mono.just(builderFor(invocation, exchange));
 	}
 }
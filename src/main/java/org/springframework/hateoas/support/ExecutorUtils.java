@@ -0,0 +1,201 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Helper to run a set of tasks on an {@link Executor} and collect their results in the order of the tasks. Shared by
+ * all components fanning out work so that they handle ordering, interruption and failures the same way.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class ExecutorUtils {
+
+	private static final ScheduledExecutorService TIMEOUTS = createTimeoutScheduler();
+
+	private ExecutorUtils() {}
+
+	/**
+	 * Runs the given tasks on the given {@link Executor} and returns their results in the order of the tasks.
+	 *
+	 * @param tasks must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param description a description of the tasks to be used in exception messages, must not be {@literal null}.
+	 * @return
+	 * @see #invokeAll(Collection, Executor, Duration, Supplier, String)
+	 */
+	public static <T> List<T> invokeAll(Collection<? extends Supplier<? extends T>> tasks, Executor executor,
+			String description) {
+		return invokeAll(tasks, executor, null, null, description);
+	}
+
+	/**
+	 * Runs the given tasks on the given {@link Executor} and returns their results in the order of the tasks. Waits for
+	 * the tasks in order and fails with the first failure encountered, cancelling all tasks not completed yet. Tasks
+	 * that have not started yet are skipped, tasks already running are not interrupted. Failures are rethrown as is if
+	 * they're {@link RuntimeException}s and wrapped into an {@link IllegalStateException} otherwise. If the current
+	 * thread is interrupted while waiting, the interrupt flag is restored and an {@link IllegalStateException} is
+	 * thrown. If the {@link Executor} rejects a task, the tasks submitted before are cancelled and the
+	 * {@link java.util.concurrent.RejectedExecutionException} is rethrown.
+	 *
+	 * @param tasks must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param timeout the time each task is allowed to take, measured from the point it is submitted so that time spent
+	 *          waiting for the {@link Executor} counts as well. Can be {@literal null} to wait indefinitely.
+	 * @param timeoutException the exception to throw if a task exceeds the timeout, must not be {@literal null} if a
+	 *          timeout is given.
+	 * @param description a description of the tasks to be used in exception messages, must not be {@literal null}.
+	 * @return
+	 */
+	public static <T> List<T> invokeAll(Collection<? extends Supplier<? extends T>> tasks, Executor executor,
+			@Nullable Duration timeout, @Nullable Supplier<? extends RuntimeException> timeoutException,
+			String description) {
+
+		Assert.notNull(tasks, "Tasks must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.isTrue(timeout == null || timeoutException != null,
+				"Timeout exception must not be null if a timeout is given!");
+		Assert.notNull(description, "Description must not be null!");
+
+		List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+
+		try {
+
+			for (Supplier<? extends T> task : tasks) {
+				futures.add(submit(task, executor, timeout));
+			}
+
+		} catch (RuntimeException o_O) {
+
+			futures.forEach(it -> it.cancel(true));
+			throw o_O;
+		}
+
+		List<T> results = new ArrayList<>(futures.size());
+
+		try {
+
+			for (CompletableFuture<T> future : futures) {
+				results.add(future.get());
+			}
+
+		} catch (InterruptedException o_O) {
+
+			futures.forEach(it -> it.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(String.format("Interrupted while waiting for %s to complete!", description),
+					o_O);
+
+		} catch (ExecutionException o_O) {
+
+			futures.forEach(it -> it.cancel(true));
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof TimeoutException && timeoutException != null) {
+				throw timeoutException.get();
+			}
+
+			throw cause instanceof RuntimeException ? (RuntimeException) cause
+					: new IllegalStateException(cause.getMessage(), cause);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Submits the given task to the given {@link Executor}. The returned {@link CompletableFuture} completes with a
+	 * {@link TimeoutException} if the task has not completed within the given timeout after submission. Tasks whose
+	 * {@link CompletableFuture} has already been completed, e.g. cancelled or timed out, when they're about to start are
+	 * skipped.
+	 *
+	 * @param task must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param timeout can be {@literal null}.
+	 * @return
+	 */
+	private static <T> CompletableFuture<T> submit(Supplier<? extends T> task, Executor executor,
+			@Nullable Duration timeout) {
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		if (timeout != null) {
+
+			ScheduledFuture<?> timer = TIMEOUTS.schedule(() -> future.completeExceptionally(new TimeoutException()),
+					timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+			future.whenComplete((result, failure) -> timer.cancel(false));
+		}
+
+		try {
+
+			executor.execute(() -> {
+
+				if (future.isDone()) {
+					return;
+				}
+
+				try {
+					future.complete(task.get());
+				} catch (Throwable o_O) {
+					future.completeExceptionally(o_O);
+				}
+			});
+
+		} catch (RuntimeException o_O) {
+
+			future.cancel(false);
+			throw o_O;
+		}
+
+		return future;
+	}
+
+	/**
+	 * Creates the {@link ScheduledExecutorService} to enforce task timeouts.
+	 *
+	 * @return
+	 */
+	private static ScheduledExecutorService createTimeoutScheduler() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hateoas-timeouts-");
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		scheduler.setKeepAliveTime(1, TimeUnit.SECONDS);
+		scheduler.allowCoreThreadTimeOut(true);
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		return scheduler;
+	}
+}
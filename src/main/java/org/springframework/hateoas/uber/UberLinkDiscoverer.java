@@ -17,7 +17,8 @@ package org.springframework.hateoas.uber;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Collections;
 
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
@@ -25,6 +26,7 @@ import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -49,49 +51,38 @@ public class UberLinkDiscoverer implements LinkDiscoverer {
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
 	 */
 	@Override
-	public Optional<Link> findLinkWithRel(LinkRelation rel, String representation) {
-
-		return getLinks(representation).stream() //
-				.filter(it -> it.hasRel(rel)) //
-				.findFirst();
+	public Links findLinksWithRel(LinkRelation relation, String representation) {
+		return findLinksWithRels(Collections.singleton(relation), representation);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinkWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
 	 */
 	@Override
-	public Optional<Link> findLinkWithRel(LinkRelation rel, InputStream representation) {
-
-		return getLinks(representation).stream() //
-				.filter(it -> it.hasRel(rel)) //
-				.findFirst();
+	public Links findLinksWithRel(LinkRelation relation, InputStream representation) {
+		return findLinksWithRels(Collections.singleton(relation), representation);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.lang.String)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
 	 */
 	@Override
-	public Links findLinksWithRel(LinkRelation rel, String representation) {
-
-		return getLinks(representation).stream().filter(it -> it.hasRel(rel)) //
-				.collect(Links.collector());
+	public Links findLinksWithRels(Collection<LinkRelation> rels, String representation) {
+		return filter(getLinks(representation), rels);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRel(org.springframework.hateoas.LinkRelation, java.io.InputStream)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
 	 */
 	@Override
-	public Links findLinksWithRel(LinkRelation rel, InputStream representation) {
-
-		return getLinks(representation).stream() //
-				.filter(it -> it.hasRel(rel)) //
-				.collect(Links.collector());
+	public Links findLinksWithRels(Collection<LinkRelation> rels, InputStream representation) {
+		return filter(getLinks(representation), rels);
 	}
 
 	/*
@@ -103,6 +94,22 @@ public class UberLinkDiscoverer implements LinkDiscoverer {
 		return delimiter.isCompatibleWith(MediaTypes.UBER_JSON);
 	}
 
+	/**
+	 * Returns all {@link Link}s with the given {@link LinkRelation}s, grouped by relation.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param rels must not be {@literal null}.
+	 * @return
+	 */
+	private static Links filter(Links links, Collection<LinkRelation> rels) {
+
+		Assert.notNull(rels, "LinkRelations must not be null!");
+
+		return rels.stream() //
+				.flatMap(rel -> links.stream().filter(it -> it.hasRel(rel))) //
+				.collect(Links.collector());
+	}
+
 	/**
 	 * Deserialize the entire document to find links.
 	 *
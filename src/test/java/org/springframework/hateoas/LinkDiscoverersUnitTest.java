@@ -17,6 +17,12 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 import org.springframework.core.Ordered;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
@@ -32,6 +38,8 @@ import org.springframework.plugin.core.PluginRegistry;
  */
 public class LinkDiscoverersUnitTest {
 
+	static final String DOCUMENT = "{ \"links\" : { \"self\" : \"/self\", \"next\" : \"/next\" }}";
+
 	@Test(expected = IllegalArgumentException.class)
 	public void rejectsNullPluginRegistry() {
 		new LinkDiscoverers(null);
@@ -47,6 +55,28 @@ public class LinkDiscoverersUnitTest {
 		assertThat(registry.getRequiredPluginFor(MediaType.APPLICATION_JSON)).isEqualTo(high);
 	}
 
+	@Test
+	public void findsLinksForMultipleRelationsThroughDiscovererForMediaType() {
+
+		LinkDiscoverers discoverers = new LinkDiscoverers(OrderAwarePluginRegistry.of(new HighPriorityLinkDiscoverer()));
+
+		Links links = discoverers.findLinksWithRels(MediaType.APPLICATION_JSON,
+				Arrays.asList(IanaLinkRelations.NEXT, IanaLinkRelations.SELF), DOCUMENT);
+
+		assertThat(links).containsExactly(new Link("/next", IanaLinkRelations.NEXT), new Link("/self"));
+	}
+
+	@Test
+	public void defaultsMultipleRelationLookupToPerRelationLookup() {
+
+		LinkDiscoverer discoverer = new PerRelationLinkDiscoverer();
+
+		Links links = discoverer.findLinksWithRels(Arrays.asList(IanaLinkRelations.NEXT, IanaLinkRelations.SELF),
+				new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(links).containsExactly(new Link("/next", IanaLinkRelations.NEXT), new Link("/self"));
+	}
+
 	static class LowPriorityLinkDiscoverer extends JsonPathLinkDiscoverer implements Ordered {
 
 		@Override
@@ -70,4 +100,28 @@ public class LinkDiscoverersUnitTest {
 			super("$.links.%s", MediaType.APPLICATION_JSON);
 		}
 	}
+
+	/**
+	 * A {@link LinkDiscoverer} only implementing the per-relation lookups, like implementations written against earlier
+	 * versions of the interface.
+	 */
+	static class PerRelationLinkDiscoverer implements LinkDiscoverer {
+
+		private final LinkDiscoverer delegate = new HighPriorityLinkDiscoverer();
+
+		@Override
+		public Links findLinksWithRel(LinkRelation rel, String representation) {
+			return delegate.findLinksWithRels(Collections.singleton(rel), representation);
+		}
+
+		@Override
+		public Links findLinksWithRel(LinkRelation rel, InputStream representation) {
+			return delegate.findLinksWithRels(Collections.singleton(rel), representation);
+		}
+
+		@Override
+		public boolean supports(MediaType delimiter) {
+			return true;
+		}
+	}
 }
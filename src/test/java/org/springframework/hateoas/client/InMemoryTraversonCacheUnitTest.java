@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Unit tests for {@link InMemoryTraversonCache} and {@link CachedResponse}.
+ *
+ * @author agent
+ */
+public class InMemoryTraversonCacheUnitTest {
+
+	@Test
+	public void evictsLeastRecentlyUsedEntries() {
+
+		InMemoryTraversonCache cache = new InMemoryTraversonCache(2);
+		CachedResponse response = CachedResponse.of(responseWith("max-age=60"), 0);
+
+		cache.put(URI.create("/first"), HttpHeaders.EMPTY, response);
+		cache.put(URI.create("/second"), HttpHeaders.EMPTY, response);
+		cache.get(URI.create("/first"), HttpHeaders.EMPTY);
+		cache.put(URI.create("/third"), HttpHeaders.EMPTY, response);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(URI.create("/first"), HttpHeaders.EMPTY)).isPresent();
+		assertThat(cache.get(URI.create("/second"), HttpHeaders.EMPTY)).isNotPresent();
+		assertThat(cache.get(URI.create("/third"), HttpHeaders.EMPTY)).isPresent();
+	}
+
+	@Test
+	public void separatesEntriesByRequestHeaders() {
+
+		InMemoryTraversonCache cache = new InMemoryTraversonCache();
+		CachedResponse response = CachedResponse.of(responseWith("max-age=60"), 0);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.ACCEPT, "application/hal+json");
+
+		cache.put(URI.create("/"), headers, response);
+
+		assertThat(cache.get(URI.create("/"), headers)).hasValue(response);
+		assertThat(cache.get(URI.create("/"), HttpHeaders.EMPTY)).isNotPresent();
+	}
+
+	@Test
+	public void considersMaxAgeForFreshness() {
+
+		CachedResponse response = CachedResponse.of(responseWith("max-age=60"), 0);
+
+		assertThat(response.isFresh(59999)).isTrue();
+		assertThat(response.isFresh(60000)).isFalse();
+		assertThat(response.isCacheable(0)).isTrue();
+	}
+
+	@Test
+	public void considersExpiresHeaderForFreshness() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setExpires(120000);
+
+		CachedResponse response = CachedResponse.of(new ResponseEntity<>("{}", headers, HttpStatus.OK), 0);
+
+		assertThat(response.isFresh(119999)).isTrue();
+		assertThat(response.isFresh(120000)).isFalse();
+	}
+
+	@Test
+	public void doesNotConsiderResponsesWithoutFreshnessOrValidatorCacheable() {
+
+		CachedResponse response = CachedResponse.of(responseWith("no-cache"), 0);
+
+		assertThat(response.isFresh(0)).isFalse();
+		assertThat(response.isCacheable(0)).isFalse();
+	}
+
+	@Test
+	public void addsValidatorsAsConditionalHeaders() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"v1\"");
+		headers.setLastModified(60000);
+
+		CachedResponse response = CachedResponse.of(new ResponseEntity<>("{}", headers, HttpStatus.OK), 0);
+		HttpHeaders conditional = response.addConditionalHeaders(new HttpHeaders());
+
+		assertThat(response.canBeRevalidated()).isTrue();
+		assertThat(conditional.getIfNoneMatch()).containsExactly("\"v1\"");
+		assertThat(conditional.getIfModifiedSince()).isEqualTo(60000);
+	}
+
+	private static ResponseEntity<String> responseWith(String cacheControl) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setCacheControl(cacheControl);
+
+		return new ResponseEntity<>("{}", headers, HttpStatus.OK);
+	}
+}
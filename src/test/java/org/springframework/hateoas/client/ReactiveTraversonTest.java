@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static net.jadler.Jadler.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.hateoas.client.Hop.*;
+
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.client.TraversonTest.GitHubLinkDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Integration tests for {@link ReactiveTraverson}.
+ *
+ * @author agent
+ */
+public class ReactiveTraversonTest {
+
+	static URI baseUri;
+	static Server server;
+
+	ReactiveTraverson traverson;
+
+	@BeforeClass
+	public static void setUpClass() {
+
+		server = new Server();
+		baseUri = URI.create(server.rootResource());
+
+		Resource<Actor> actor = new Resource<>(new Actor("Keanu Reaves"));
+		String actorUri = server.mockResourceFor(actor);
+
+		Resource<Movie> movie = new Resource<>(new Movie("The Matrix"));
+		movie.add(new Link(actorUri, "actor"));
+
+		server.mockResourceFor(movie);
+		server.finishMocking();
+	}
+
+	@Before
+	public void setUp() {
+		this.traverson = new ReactiveTraverson(baseUri, MediaTypes.HAL_JSON_UTF8, MediaTypes.HAL_JSON);
+	}
+
+	@AfterClass
+	public static void tearDown() throws IOException {
+
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Test
+	public void readsTraversalIntoJsonPathExpression() {
+
+		StepVerifier.create(traverson.follow("movies", "movie", "actor").<String> toObject("$.name")) //
+				.expectNext("Keanu Reaves") //
+				.verifyComplete();
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/") //
+				.havingHeader("Accept", contains(MediaTypes.HAL_JSON_UTF8_VALUE + ", " + MediaTypes.HAL_JSON_VALUE)) //
+				.receivedOnce();
+	}
+
+	@Test
+	public void readsJsonPathTraversalIntoJsonPathExpression() {
+
+		StepVerifier.create(traverson.follow( //
+				"$._links.movies.href", //
+				"$._links.movie.href", //
+				"$._links.actor.href").<String> toObject("$.name")) //
+				.expectNext("Keanu Reaves") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void readsTraversalIntoResourceInstance() {
+
+		ParameterizedTypeReference<Resource<Actor>> typeReference = new ParameterizedTypeReference<Resource<Actor>>() {};
+
+		StepVerifier.create(traverson.follow("movies", "movie", "actor").toObject(typeReference)) //
+				.assertNext(it -> assertThat(it.getContent().name).isEqualTo("Keanu Reaves")) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void returnsLastLinkFound() {
+
+		StepVerifier.create(traverson.follow("movies").asLink()) //
+				.assertNext(it -> {
+					assertThat(it.getHref()).endsWith("/movies");
+					assertThat(it.hasRel("movies")).isTrue();
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void returnsTemplatedLinkIfRequested() {
+
+		ReactiveTraverson traverson = new ReactiveTraverson(URI.create(server.rootResource().concat("/link")),
+				MediaTypes.HAL_JSON);
+
+		StepVerifier.create(traverson.follow("self").asTemplatedLink()) //
+				.assertNext(it -> assertThat(it.getVariableNames()).contains("template")) //
+				.verifyComplete();
+
+		StepVerifier.create(traverson.follow("self").asLink()) //
+				.assertNext(it -> assertThat(it.isTemplated()).isFalse()) //
+				.verifyComplete();
+	}
+
+	@Test
+	public void appliesHopParametersAndHeaders() {
+
+		String expected = server.rootResource() + "/springagram/items/1";
+		ReactiveTraverson traverson = new ReactiveTraverson(URI.create(server.rootResource() + "/springagram"),
+				MediaTypes.HAL_JSON);
+
+		StepVerifier.create(traverson //
+				.follow(rel("items").withParameter("projection", "noImages").header("X-Custom", "alpha")) //
+				.follow("$._embedded.items[0]._links.self.href") //
+				.toObject(Resource.class)) //
+				.assertNext(it -> assertThat(it.getRequiredLink("self").expand().getHref()).isEqualTo(expected)) //
+				.verifyComplete();
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/springagram/items") //
+				.havingHeader("X-Custom", contains("alpha")) //
+				.receivedOnce();
+	}
+
+	@Test
+	public void usesCustomLinkDiscoverer() {
+
+		ReactiveTraverson traverson = new ReactiveTraverson(URI.create(server.rootResource() + "/github"),
+				MediaType.APPLICATION_JSON);
+		traverson.setLinkDiscoverers(Arrays.asList(new GitHubLinkDiscoverer()));
+
+		StepVerifier.create(traverson.follow("foo").<String> toObject("$.key")) //
+				.expectNext("value") //
+				.verifyComplete();
+	}
+
+	@Test
+	public void sendsConfiguredHeaders() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Traversal", "value");
+
+		StepVerifier.create(traverson.follow("movies", "movie", "actor").withHeaders(headers).toEntity(String.class)) //
+				.assertNext(it -> assertThat(it.getStatusCode().is2xxSuccessful()).isTrue()) //
+				.verifyComplete();
+
+		verifyThatRequest() //
+				.havingPath(startsWith("/actors/")) //
+				.havingHeader("X-Traversal", contains("value")) //
+				.receivedOnce();
+	}
+
+	@Test
+	public void signalsErrorForMissingLink() {
+
+		StepVerifier.create(traverson.follow("unknown").asLink()) //
+				.expectError(IllegalStateException.class) //
+				.verify();
+	}
+
+	@Test
+	public void signalsErrorResponsesIncludingTheirBody() {
+
+		ReactiveTraverson traverson = new ReactiveTraverson(URI.create(server.rootResource() + "/gone"),
+				MediaTypes.HAL_JSON);
+
+		StepVerifier.create(traverson.follow("next").asLink()) //
+				.expectErrorSatisfies(it -> {
+
+					assertThat(it).isInstanceOf(WebClientResponseException.class);
+
+					WebClientResponseException exception = (WebClientResponseException) it;
+
+					assertThat(exception.getRawStatusCode()).isEqualTo(410);
+					assertThat(exception.getResponseBodyAsString()).isEqualTo("Gone!");
+				}) //
+				.verify();
+	}
+}
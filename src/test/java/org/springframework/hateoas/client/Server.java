@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
@@ -34,6 +35,7 @@ import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
 import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -95,6 +97,104 @@ public class Server implements Closeable {
 				withBody("{ \"_links\" : { \"self\" : { \"href\" : \"/{?template}\" }}}"). //
 				withContentType(MediaTypes.HAL_JSON.toString());
 
+		// For response caching
+
+		onRequest(). //
+				havingPathEqualTo("/cached"). //
+				respond(). //
+				withHeader(HttpHeaders.CACHE_CONTROL, "max-age=3600"). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"/cached/next\" }}}");
+
+		onRequest(). //
+				havingPathEqualTo("/etagged"). //
+				respond(). //
+				withHeader(HttpHeaders.CACHE_CONTROL, "no-cache"). //
+				withHeader(HttpHeaders.ETAG, "\"v1\""). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"/etagged/next\" }}}");
+
+		onRequest(). //
+				havingPathEqualTo("/etagged"). //
+				havingHeaderEqualTo(HttpHeaders.IF_NONE_MATCH, "\"v1\""). //
+				respond(). //
+				withStatus(304). //
+				withHeader(HttpHeaders.ETAG, "\"v1\"");
+
+		onRequest(). //
+				havingPathEqualTo("/uncached"). //
+				respond(). //
+				withHeader(HttpHeaders.CACHE_CONTROL, "no-store"). //
+				withHeader(HttpHeaders.ETAG, "\"v1\""). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"/uncached/next\" }}}");
+
+		// For fan-out traversals
+
+		onRequest(). //
+				havingPathEqualTo("/fanout"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"item\" : [ { \"href\" : \"" + rootResource() + "/fanout/1\" }, " //
+						+ "{ \"href\" : \"" + rootResource() + "/fanout/2\" } ] }}");
+
+		onRequest(). //
+				havingPathEqualTo("/fanout/1"). //
+				respond(). //
+				withDelay(300, TimeUnit.MILLISECONDS). //
+				withBody("{ \"name\" : \"first\" }");
+
+		onRequest(). //
+				havingPathEqualTo("/fanout/2"). //
+				respond(). //
+				withBody("{ \"name\" : \"second\" }");
+
+		// For traversal shortcuts
+
+		onRequest(). //
+				havingPathEqualTo("/shortcut"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + rootResource() + "/shortcut/old\" }}}"). //
+				thenRespond(). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + rootResource() + "/shortcut/new\" }}}");
+
+		onRequest(). //
+				havingPathEqualTo("/shortcut/old"). //
+				respond(). //
+				withBody("{ \"name\" : \"old\" }"). //
+				thenRespond(). //
+				withStatus(410);
+
+		onRequest(). //
+				havingPathEqualTo("/shortcut/new"). //
+				respond(). //
+				withBody("{ \"name\" : \"new\" }");
+
+		// For stale hop cache entries
+
+		onRequest(). //
+				havingPathEqualTo("/hops"). //
+				respond(). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + rootResource() + "/hops/old\" }}}"). //
+				thenRespond(). //
+				withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + rootResource() + "/hops/new\" }}}");
+
+		onRequest(). //
+				havingPathEqualTo("/hops/old"). //
+				respond(). //
+				withBody("{ \"name\" : \"old\" }"). //
+				thenRespond(). //
+				withStatus(404);
+
+		onRequest(). //
+				havingPathEqualTo("/hops/new"). //
+				respond(). //
+				withBody("{ \"name\" : \"new\" }");
+
+		// For error responses
+
+		onRequest(). //
+				havingPathEqualTo("/gone"). //
+				respond(). //
+				withStatus(410). //
+				withBody("Gone!");
+
 		// Sample traversal of HAL docs based on Spring-a-Gram showcase
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
 		org.springframework.core.io.Resource springagramRoot = resourceLoader
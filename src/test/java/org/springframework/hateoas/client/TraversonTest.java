@@ -22,11 +22,19 @@ import static org.springframework.hateoas.client.Hop.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -47,6 +55,7 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -230,6 +239,350 @@ public class TraversonTest {
 		assertThat(result.hasRel("movies")).isTrue();
 	}
 
+	@Test
+	public void rejectsMissingLinkInStreamedResponse() {
+
+		assertThatExceptionOfType(IllegalStateException.class) //
+				.isThrownBy(() -> traverson.follow("movies", "unknown").asLink()) //
+				.withMessageContaining("'unknown'") //
+				.withMessageContaining("/movies");
+	}
+
+	@Test
+	public void traversesOnlyOnceToReturnLink() {
+
+		CountingInterceptor interceptor = new CountingInterceptor();
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList(interceptor));
+
+		this.traverson.setRestOperations(restTemplate);
+
+		Link result = traverson.follow("movies", "movie").asLink();
+
+		assertThat(result.hasRel("movie")).isTrue();
+		assertThat(interceptor.intercepted).isEqualTo(2);
+	}
+
+	@Test
+	public void reusesCachedHopsForSubsequentTraversals() {
+
+		CountingInterceptor interceptor = new CountingInterceptor();
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList(interceptor));
+
+		this.traverson = new Traverson(baseUri, MediaTypes.HAL_JSON) //
+				.setRestOperations(restTemplate) //
+				.setHopCachingEnabled(true);
+
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+		assertThat(interceptor.intercepted).isEqualTo(4);
+
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+		assertThat(interceptor.intercepted).isEqualTo(5);
+
+		// Different headers result in a cache miss
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Custom", "value");
+
+		traverson.follow("movies").withHeaders(headers).asLink();
+		assertThat(interceptor.intercepted).isEqualTo(6);
+
+		traverson.setHopCachingEnabled(false);
+
+		traverson.follow("movies").asLink();
+		assertThat(interceptor.intercepted).isEqualTo(7);
+	}
+
+	@Test
+	public void refreshesCachedHopsForResourcesGone() {
+
+		CountingInterceptor interceptor = new CountingInterceptor();
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList(interceptor));
+
+		Traverson traverson = new Traverson(URI.create(server.rootResource() + "/hops"), MediaTypes.HAL_JSON) //
+				.setRestOperations(restTemplate) //
+				.setHopCachingEnabled(true);
+
+		assertThat(traverson.follow("next").<String> toObject("$.name")).isEqualTo("old");
+		assertThat(interceptor.intercepted).isEqualTo(2);
+
+		// Cached link to the old resource fails, traversal is repeated hop by hop
+		assertThat(traverson.follow("next").<String> toObject("$.name")).isEqualTo("new");
+		assertThat(interceptor.intercepted).isEqualTo(5);
+
+		// Refreshed link is cached again
+		assertThat(traverson.follow("next").<String> toObject("$.name")).isEqualTo("new");
+		assertThat(interceptor.intercepted).isEqualTo(6);
+	}
+
+	@Test
+	public void notifiesHopListeners() {
+
+		List<HopEvent> events = new ArrayList<>();
+		List<String> started = new ArrayList<>();
+
+		this.traverson.setHopListeners(Arrays.asList(new HopListener() {
+
+			@Override
+			public void beforeHop(String rel, URI uri) {
+				started.add(rel);
+			}
+
+			@Override
+			public void afterHop(HopEvent event) {
+				events.add(event);
+			}
+		})).setHopCachingEnabled(true);
+
+		traverson.follow("movies", "movie").asLink();
+
+		assertThat(started).containsExactly("movies", "movie");
+		assertThat(events).extracting(HopEvent::getRel).containsExactly("movies", "movie");
+		assertThat(events).allSatisfy(it -> {
+			assertThat(it.getStatus()).isEqualTo(200);
+			assertThat(it.getSource()).isEqualTo(HopEvent.Source.NETWORK);
+			assertThat(it.getDurationNanos()).isGreaterThanOrEqualTo(it.getDiscoveryNanos());
+			assertThat(it.getResponseSize()).isGreaterThan(0);
+			assertThat(it.isSuccessful()).isTrue();
+		});
+		assertThat(events.get(0).getUriTemplate()).isEqualTo(baseUri.toString());
+
+		events.clear();
+		traverson.follow("movies").asLink();
+
+		assertThat(events).extracting(HopEvent::getSource).containsExactly(HopEvent.Source.HOP_CACHE);
+		assertThat(events).extracting(HopEvent::getResponseSize).containsExactly(-1L);
+	}
+
+	@Test
+	public void notifiesHopListenersAboutFailedHops() {
+
+		List<HopEvent> events = new ArrayList<>();
+		this.traverson.setHopListeners(Collections.singletonList(events::add));
+
+		assertThatExceptionOfType(IllegalStateException.class) //
+				.isThrownBy(() -> traverson.follow("movies", "unknown").asLink());
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(1).getRel()).isEqualTo("unknown");
+		assertThat(events.get(1).getFailure()).containsInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void ignoresExceptionsThrownByHopListeners() {
+
+		HopListener failing = new HopListener() {
+
+			@Override
+			public void beforeHop(String rel, URI uri) {
+				throw new IllegalArgumentException("before");
+			}
+
+			@Override
+			public void afterHop(HopEvent event) {
+				throw new IllegalArgumentException("after");
+			}
+		};
+
+		List<HopEvent> events = new ArrayList<>();
+		this.traverson.setHopListeners(Arrays.asList(failing, events::add));
+
+		assertThat(traverson.follow("movies").asLink().getHref()).isNotEmpty();
+
+		assertThatExceptionOfType(IllegalStateException.class) //
+				.isThrownBy(() -> traverson.follow("movies", "unknown").asLink());
+
+		assertThat(events).hasSize(3);
+	}
+
+	@Test
+	public void shortcutsKnownHopsForSubsequentTraversals() {
+
+		CountingInterceptor interceptor = new CountingInterceptor();
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList(interceptor));
+
+		this.traverson.setRestOperations(restTemplate).setTraversalShortcuts(Duration.ofMinutes(1));
+
+		Link first = traverson.follow("movies", "movie").asLink();
+
+		assertThat(interceptor.intercepted).isEqualTo(2);
+		assertThat(traverson.follow("movies", "movie").asLink()).isEqualTo(first);
+		assertThat(interceptor.intercepted).isEqualTo(2);
+
+		traverson.follow("movies", "movie", "actor").asLink();
+
+		assertThat(interceptor.intercepted).isEqualTo(3);
+	}
+
+	@Test
+	public void dropsShortcutsForResourcesGone() {
+
+		Traverson traverson = new Traverson(URI.create(server.rootResource() + "/shortcut"), MediaTypes.HAL_JSON) //
+				.setTraversalShortcuts(Duration.ofMinutes(1));
+
+		assertThat(traverson.follow("next").<String> toObject("$.name")).isEqualTo("old");
+		assertThat(traverson.follow("next").<String> toObject("$.name")).isEqualTo("new");
+	}
+
+	@Test
+	public void revalidatesExpiredShortcutsInBackground() {
+
+		CountingInterceptor interceptor = new CountingInterceptor();
+		List<Runnable> revalidations = new ArrayList<>();
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList(interceptor));
+
+		this.traverson.setRestOperations(restTemplate).setTraversalShortcuts(Duration.ZERO, revalidations::add);
+
+		Link first = traverson.follow("movies", "movie").asLink();
+
+		assertThat(interceptor.intercepted).isEqualTo(2);
+		assertThat(traverson.follow("movies", "movie").asLink()).isEqualTo(first);
+		assertThat(interceptor.intercepted).isEqualTo(2);
+		assertThat(revalidations).hasSize(1);
+
+		revalidations.get(0).run();
+
+		assertThat(interceptor.intercepted).isEqualTo(4);
+	}
+
+	@Test
+	public void reusesFreshResponsesFromCache() {
+
+		CountingInterceptor interceptor = new CountingInterceptor();
+
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList(interceptor));
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/cached"), MediaTypes.HAL_JSON) //
+				.setRestOperations(restTemplate) //
+				.setCache(new InMemoryTraversonCache());
+
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo("/cached/next");
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo("/cached/next");
+		assertThat(interceptor.intercepted).isEqualTo(1);
+	}
+
+	@Test
+	public void revalidatesCachedResponsesUsingETag() {
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/etagged"), MediaTypes.HAL_JSON) //
+				.setCache(new InMemoryTraversonCache());
+
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo("/etagged/next");
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo("/etagged/next");
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/etagged") //
+				.havingHeaderEqualTo(HttpHeaders.IF_NONE_MATCH, "\"v1\"") //
+				.receivedOnce();
+	}
+
+	@Test
+	public void doesNotCacheResponsesMarkedNoStore() {
+
+		InMemoryTraversonCache cache = new InMemoryTraversonCache();
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/uncached"), MediaTypes.HAL_JSON) //
+				.setCache(cache);
+
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo("/uncached/next");
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void fansOutToAllLinksPreservingOrder() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			List<String> names = new Traverson(URI.create(server.rootResource() + "/fanout"), MediaTypes.HAL_JSON) //
+					.follow() //
+					.followEach("item") //
+					.withExecutor(executor) //
+					.toObjects("$.name");
+
+			assertThat(names).containsExactly("first", "second");
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void fansOutToLinksFoundByJsonPath() {
+
+		this.traverson = new Traverson(URI.create(server.rootResource() + "/springagram"), MediaTypes.HAL_JSON);
+
+		List<Link> links = traverson.follow(rel("items").withParameter("projection", "noImages")) //
+				.followEach("$._embedded.items[*]._links.self.href") //
+				.asLinks();
+
+		assertThat(links).extracting(Link::getHref).containsExactly(server.rootResource() + "/springagram/items/1",
+				server.rootResource() + "/springagram/items/2");
+	}
+
+	@Test(expected = ResourceAccessException.class)
+	public void rejectsFanOutTraversalsExceedingTimeout() {
+
+		new Traverson(URI.create(server.rootResource() + "/fanout"), MediaTypes.HAL_JSON) //
+				.follow() //
+				.followEach("item") //
+				.withExecutor(ForkJoinPool.commonPool()) //
+				.withTimeout(Duration.ofMillis(50)) //
+				.toObjects("$.name");
+	}
+
+	@Test
+	public void abandonsSlowFanOutTraversalOnDefaultExecutor() {
+
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean completed = new AtomicBoolean();
+
+		// Holds back the response for /fanout/1 until the traversal has given up on it
+		RestTemplate restTemplate = new RestTemplate();
+		restTemplate.setInterceptors(Arrays.asList((request, body, execution) -> {
+
+			if (request.getURI().getPath().equals("/fanout/1")) {
+
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException o_O) {
+					Thread.currentThread().interrupt();
+				}
+
+				completed.set(true);
+			}
+
+			return execution.execute(request, body);
+		}));
+
+		try {
+
+			assertThatExceptionOfType(ResourceAccessException.class) //
+					.isThrownBy(() -> new Traverson(URI.create(server.rootResource() + "/fanout"), MediaTypes.HAL_JSON) //
+							.setRestOperations(restTemplate) //
+							.follow() //
+							.followEach("item") //
+							.withTimeout(Duration.ofMillis(50)) //
+							.toObjects("$.name")) //
+					.withMessageContaining("timed out");
+
+			assertThat(completed).isFalse();
+
+		} finally {
+			release.countDown();
+		}
+	}
+
 	/**
 	 * @see #307
 	 */
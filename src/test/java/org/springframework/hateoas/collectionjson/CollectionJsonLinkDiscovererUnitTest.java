@@ -18,13 +18,16 @@ package org.springframework.hateoas.collectionjson;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.support.MappingUtils;
 
 /**
@@ -77,4 +80,15 @@ public class CollectionJsonLinkDiscovererUnitTest {
 				.containsExactlyInAnyOrder("http://examples.org/images/jdoe", "http://examples.org/images/msmith",
 						"http://examples.org/images/rwilliams");
 	}
+
+	@Test
+	public void findsSelfAndOtherLinksAtOnce() throws IOException {
+
+		String specBasedJson = MappingUtils.read(new ClassPathResource("spec-part2.json", getClass()));
+
+		assertThat(this.discoverer.findLinksWithRels(Arrays.asList(IanaLinkRelations.SELF, LinkRelation.of("feed")),
+				specBasedJson)) //
+						.extracting("href") //
+						.containsExactly("http://example.org/friends/", "http://example.org/friends/rss");
+	}
 }
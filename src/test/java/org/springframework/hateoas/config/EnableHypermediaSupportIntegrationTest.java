@@ -321,6 +321,20 @@ public class EnableHypermediaSupportIntegrationTest {
 		});
 	}
 
+	@Test
+	public void sharesHalObjectMapperBetweenSpringMvcAndRestTemplate() {
+
+		withServletContext(HalConfig.class, context -> {
+
+			ObjectMapper mapper = context.getBean(HypermediaObjectMappers.class).getObjectMapper(HypermediaType.HAL);
+			RestTemplate template = context.getBean(RestTemplate.class);
+
+			assertThat(((AbstractJackson2HttpMessageConverter) template.getMessageConverters().get(0)).getObjectMapper()) //
+					.isSameAs(mapper);
+			assertObjectMapper(context, MediaTypes.HAL_JSON, it -> assertThat(it).isSameAs(mapper));
+		});
+	}
+
 	@Test
 	public void registersHalFormsHttpMessageConvertersForRestTemplate() {
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link HypermediaObjectMappers}.
+ *
+ * @author agent
+ */
+public class HypermediaObjectMappersUnitTest {
+
+	HypermediaObjectMappers mappers = HypermediaObjectMappers.of(new ObjectMapper());
+
+	@Test
+	public void createsMapperPerHypermediaTypeOnce() {
+
+		ObjectMapper mapper = mappers.getObjectMapper(HypermediaType.HAL);
+
+		assertThat(Jackson2HalModule.isAlreadyRegisteredIn(mapper)).isTrue();
+		assertThat(mappers.getObjectMapper(HypermediaType.HAL)).isSameAs(mapper);
+		assertThat(mappers.getObjectMapper(HypermediaType.UBER)).isNotSameAs(mapper);
+	}
+
+	@Test
+	public void looksUpMapperByMediaType() {
+
+		ObjectMapper mapper = mappers.getObjectMapper(HypermediaType.HAL);
+
+		assertThat(mappers.getObjectMapper(MediaTypes.HAL_JSON)).hasValue(mapper);
+		assertThat(mappers.getObjectMapper(MediaTypes.HAL_JSON_UTF8)).hasValue(mapper);
+		assertThat(mappers.getObjectMapper(MediaTypes.COLLECTION_JSON)) //
+				.hasValue(mappers.getObjectMapper(HypermediaType.COLLECTION_JSON));
+		assertThat(mappers.getObjectMapper(MediaType.APPLICATION_JSON)).isEmpty();
+	}
+
+	@Test
+	public void recreatesMappersAfterRefresh() {
+
+		ObjectMapper mapper = mappers.getObjectMapper(HypermediaType.HAL_FORMS);
+
+		mappers.refresh();
+
+		assertThat(mappers.getObjectMapper(HypermediaType.HAL_FORMS)).isNotSameAs(mapper);
+	}
+}
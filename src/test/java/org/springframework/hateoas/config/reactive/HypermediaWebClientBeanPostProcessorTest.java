@@ -38,6 +38,7 @@ import org.springframework.hateoas.client.Server;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.mvc.TypeReferences.ResourceType;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
@@ -76,6 +77,22 @@ public class HypermediaWebClientBeanPostProcessorTest {
 		}
 	}
 
+	@Test
+	public void sharesExchangeStrategiesUntilRefreshed() {
+
+		withContext(HalConfig.class, context -> {
+
+			WebClientConfigurer configurer = context.getBean(WebClientConfigurer.class);
+			ExchangeStrategies strategies = configurer.hypermediaExchangeStrategies();
+
+			assertThat(configurer.hypermediaExchangeStrategies()).isSameAs(strategies);
+
+			configurer.refresh();
+
+			assertThat(configurer.hypermediaExchangeStrategies()).isNotSameAs(strategies);
+		});
+	}
+
 	/**
 	 * @see #728
 	 */
@@ -24,6 +24,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -41,6 +42,8 @@ import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.SimpleResourceAssembler;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.mvc.TypeReferences.ResourceType;
+import org.springframework.hateoas.reactive.ReactiveResourceProcessor;
+import org.springframework.hateoas.reactive.StreamingResources;
 import org.springframework.hateoas.mvc.TypeReferences.ResourcesType;
 import org.springframework.hateoas.support.Employee;
 import org.springframework.http.MediaType;
@@ -318,6 +321,57 @@ public class HypermediaWebFluxConfigurerTest {
 				}).verifyComplete();
 	}
 
+	@Test
+	public void rendersStreamedResourcesAsHal() {
+
+		setUp(HalWebFluxConfig.class);
+
+		for (String uri : Arrays.asList("/reactive/employees/flux", "/reactive/employees/streaming")) {
+
+			this.testClient.get().uri(uri).accept(MediaTypes.HAL_JSON).exchange() //
+					.expectStatus().isOk() //
+					.expectHeader().contentType(MediaTypes.HAL_JSON_UTF8) //
+					.returnResult(this.resourcesEmployeeType).getResponseBody() //
+					.as(StepVerifier::create) //
+					.expectNextMatches(resources -> {
+
+						assertThat(resources.getContent()).extracting(Resource::getContent) //
+								.containsExactly(new Employee("Frodo Baggins", "ring bearer"));
+						return true;
+					}).verifyComplete();
+		}
+	}
+
+	@Test
+	public void appliesReactiveResourceProcessors() {
+
+		setUp(ReactiveResourceProcessorConfig.class);
+
+		for (String uri : Arrays.asList("/employees/1", "/reactive/employees/1")) {
+
+			this.testClient.get().uri(uri).accept(MediaTypes.HAL_JSON).exchange() //
+					.expectStatus().isOk() //
+					.returnResult(this.resourceEmployeeType).getResponseBody() //
+					.as(StepVerifier::create) //
+					.expectNextMatches(employee -> {
+
+						assertThat(employee.getLinks()).contains(new Link("/employees/1/manager", "manager"));
+						return true;
+					}).verifyComplete();
+		}
+
+		this.testClient.get().uri("/reactive/employees").accept(MediaTypes.HAL_JSON).exchange() //
+				.expectStatus().isOk() //
+				.returnResult(this.resourcesEmployeeType).getResponseBody() //
+				.as(StepVerifier::create) //
+				.expectNextMatches(resources -> {
+
+					assertThat(resources.getContent().iterator().next().getLinks()) //
+							.contains(new Link("/employees/1/manager", "manager"));
+					return true;
+				}).verifyComplete();
+	}
+
 	private void verifyRootUriServesHypermedia(MediaType mediaType) {
 		verifyRootUriServesHypermedia(mediaType, mediaType);
 	}
@@ -450,6 +504,25 @@ public class HypermediaWebFluxConfigurerTest {
 	@EnableHypermediaSupport(type = { HAL, HAL_FORMS, COLLECTION_JSON, UBER })
 	static class AllHypermediaTypesWebFluxConfig extends BaseConfig {}
 
+	@EnableHypermediaSupport(type = HAL)
+	static class ReactiveResourceProcessorConfig extends BaseConfig {
+
+		@Bean
+		ReactiveResourceProcessor<Resource<Employee>> managerProcessor() {
+
+			return new ReactiveResourceProcessor<Resource<Employee>>() {
+
+				@Override
+				public Mono<Resource<Employee>> process(Resource<Employee> resource) {
+
+					resource.add(new Link("/employees/1/manager", "manager"));
+
+					return Mono.just(resource);
+				}
+			};
+		}
+	}
+
 	@RestController
 	static class TestController {
 
@@ -527,6 +600,21 @@ public class HypermediaWebFluxConfigurerTest {
 					.map(assembler::toResource);
 		}
 
+		@GetMapping("/reactive/employees/flux")
+		Flux<Resource<Employee>> reactiveEmployeesAsFlux() {
+			return findAll().map(assembler::toResource);
+		}
+
+		@GetMapping("/reactive/employees/streaming")
+		StreamingResources<Resource<Employee>> streamingEmployees() {
+
+			StreamingResources<Resource<Employee>> resources = new StreamingResources<>(
+					findAll().map(assembler::toResource));
+			resources.add(new Link("/employees").withSelfRel());
+
+			return resources;
+		}
+
 		Mono<Employee> findById(int id) {
 			return Mono.just(this.employees.get(id));
 		}
@@ -19,10 +19,13 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.junit.Test;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.hateoas.Links;
 
 /**
@@ -60,6 +63,26 @@ public abstract class AbstractLinkDiscovererUnitTest {
 		assertThat(links).contains(new Link("firstHref", "relation"), new Link("secondHref", "relation"));
 	}
 
+	@Test
+	public void findsLinksForMultipleRelsAtOnce() {
+
+		Links links = getDiscoverer().findLinksWithRels(Arrays.asList(IanaLinkRelations.SELF, LinkRelation.of("relation")),
+				getInputString());
+
+		assertThat(links).containsExactly(new Link("selfHref"), new Link("firstHref", "relation"),
+				new Link("secondHref", "relation"));
+	}
+
+	@Test
+	public void findsLinksForMultipleRelsAtOnceFromInputStream() throws Exception {
+
+		InputStream inputStream = new ByteArrayInputStream(getInputString().getBytes("UTF-8"));
+		Links links = getDiscoverer().findLinksWithRels(Arrays.asList(LinkRelation.of("relation"), LinkRelation.of("foo")),
+				inputStream);
+
+		assertThat(links).containsExactly(new Link("firstHref", "relation"), new Link("secondHref", "relation"));
+	}
+
 	@Test
 	public void returnsForInexistingLink() {
 		assertThat(getDiscoverer().findLinkWithRel("something", getInputString())).isEmpty();
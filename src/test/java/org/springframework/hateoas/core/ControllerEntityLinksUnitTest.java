@@ -29,6 +29,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.ExposesResourceFor;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.LinkBuilderFactory;
 import org.springframework.hateoas.TestUtils;
@@ -92,6 +93,29 @@ public class ControllerEntityLinksUnitTest extends TestUtils {
 		assertThat(builder.withSelfRel().getHref()).endsWith("/person/1");
 	}
 
+	@Test
+	public void createsLinksToSingleResourcesInBulk() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+		EntityLinks links = new ControllerEntityLinks(singletonList(SampleController.class), linkBuilderFactory);
+
+		assertThat(links.linksToSingleResources(Person.class, Arrays.asList(1, 2))) //
+				.extracting(Link::getHref) //
+				.containsExactly("http://localhost/person/1", "http://localhost/person/2");
+
+		verify(linkBuilderFactory, times(1)).linkTo(SampleController.class, new Object[0]);
+	}
+
+	@Test
+	public void rejectsNullIdForBulkLinks() {
+
+		when(linkBuilderFactory.linkTo(SampleController.class, new Object[0])).thenReturn(linkTo(SampleController.class));
+		EntityLinks links = new ControllerEntityLinks(singletonList(SampleController.class), linkBuilderFactory);
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> links.linksToSingleResources(Person.class, Arrays.asList(1, null)));
+	}
+
 	@Test
 	public void rejectsUnmanagedEntity() {
 
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,7 +29,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.ExposesResourceFor;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.TestUtils;
+import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.plugin.core.SimplePluginRegistry;
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -78,6 +82,54 @@ public class DelegatingEntityLinksUnitTest extends TestUtils {
 		verify(target, times(1)).linkFor(String.class);
 	}
 
+	@Test
+	public void delegatesBulkLinkCreation() {
+
+		List<Integer> ids = Arrays.asList(1, 2);
+
+		createDelegatingEntityLinks().linksToSingleResources(String.class, ids);
+
+		verify(target, times(1)).linksToSingleResources(String.class, ids);
+	}
+
+	@Test
+	public void bulkLinksDefaultToSingleResourceLinksOfDelegate() {
+
+		Link link = new Link("/custom/1");
+
+		when(target.linkToSingleResource(String.class, 1)).thenReturn(link);
+		doCallRealMethod().when(target).linksToSingleResources(eq(String.class), any());
+
+		assertThat(createDelegatingEntityLinks().linksToSingleResources(String.class, Arrays.asList(1)))
+				.containsExactly(link);
+	}
+
+	@Test
+	public void bulkLinksRejectNullIdsByDefault() {
+
+		doCallRealMethod().when(target).linksToSingleResources(eq(String.class), any());
+
+		assertThatExceptionOfType(IllegalArgumentException.class) //
+				.isThrownBy(() -> createDelegatingEntityLinks().linksToSingleResources(String.class, Arrays.asList(1, null)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cachesPluginResolvedForType() {
+
+		PluginRegistry<EntityLinks, Class<?>> registry = mock(PluginRegistry.class);
+		when(registry.getPluginFor(String.class)).thenReturn(Optional.of(target));
+
+		EntityLinks links = new DelegatingEntityLinks(registry);
+
+		links.linkFor(String.class);
+		links.linkToCollectionResource(String.class);
+
+		verify(registry, times(1)).getPluginFor(String.class);
+		verify(target, times(1)).linkFor(String.class);
+		verify(target, times(1)).linkToCollectionResource(String.class);
+	}
+
 	private EntityLinks createDelegatingEntityLinks() {
 		return new DelegatingEntityLinks(SimplePluginRegistry.create(Arrays.asList(target)));
 	}
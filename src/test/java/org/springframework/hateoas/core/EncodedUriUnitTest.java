@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link EncodedUri}.
+ *
+ * @author agent
+ */
+public class EncodedUriUnitTest {
+
+	@Test
+	public void rendersAllPartsOfUriComponents() {
+
+		String source = "http://user@localhost:8080/api/foo%20bar?a=1&b=2#fragment";
+
+		EncodedUri uri = EncodedUri.of(UriComponentsBuilder.fromUriString(source).build());
+
+		assertThat(uri.toString()).isEqualTo(source);
+		assertThat(uri.toBuilder().build().toUriString()).isEqualTo(source);
+	}
+
+	@Test
+	public void appendsNonEmptyPathSegmentsOnly() {
+
+		EncodedUri uri = EncodedUri.of(UriComponentsBuilder.fromUriString("http://localhost").build());
+
+		assertThat(uri.withPathSegments(Arrays.asList("foo", "", "bar")).toString()) //
+				.isEqualTo("http://localhost/foo/bar");
+		assertThat(uri.withPathSegments(Arrays.asList("", " "))).isSameAs(uri);
+	}
+
+	@Test
+	public void isImmutable() {
+
+		EncodedUri uri = EncodedUri.of(UriComponentsBuilder.fromUriString("/api?a=1").build());
+
+		uri.withPathSegments(Arrays.asList("foo")).withQuery("b=2").withFragment("bar");
+
+		assertThat(uri.toString()).isEqualTo("/api?a=1");
+	}
+
+	@Test
+	public void rendersEmptyUri() {
+
+		EncodedUri uri = EncodedUri.of(UriComponentsBuilder.newInstance().build());
+
+		assertThat(uri.toString()).isEmpty();
+		assertThat(uri.withPathSegments(Arrays.asList("foo")).toString()).isEqualTo("/foo");
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Unit tests for {@link EncodingUtils}.
+ *
+ * @author agent
+ */
+public class EncodingUtilsUnitTest {
+
+	static final List<String> SOURCES = Arrays.asList("", "4711", "foo", "foo bar", "foo/bar", "a=b&c=d", "?#[]",
+			"100%", "47:11", "Jürgen", "€", "😀", "a+b", "~user", "\"quoted\"");
+
+	@Test
+	public void encodesLikeUriUtils() {
+
+		for (String source : SOURCES) {
+
+			assertThat(EncodingUtils.encodePath(source)) //
+					.isEqualTo(UriUtils.encodePath(source, StandardCharsets.UTF_8));
+			assertThat(EncodingUtils.encodeParameter(source)) //
+					.isEqualTo(UriUtils.encodeQueryParam(source, StandardCharsets.UTF_8));
+			assertThat(EncodingUtils.encodeFragment(source)) //
+					.isEqualTo(UriUtils.encodeFragment(source, StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	public void returnsSourceIfNothingNeedsToBeEncoded() {
+
+		String source = "some-identifier_4711";
+
+		assertThat(EncodingUtils.encodePath(source)).isSameAs(source);
+		assertThat(EncodingUtils.encodeParameter(source)).isSameAs(source);
+		assertThat(EncodingUtils.encodeFragment(source)).isSameAs(source);
+	}
+
+	@Test
+	public void rendersNumbersAndUuidsAsIs() {
+
+		UUID uuid = UUID.randomUUID();
+
+		assertThat(EncodingUtils.encodePath(4711L)).isEqualTo("4711");
+		assertThat(EncodingUtils.encodeParameter(-47.11)).isEqualTo("-47.11");
+		assertThat(EncodingUtils.encodePath(uuid)).isEqualTo(uuid.toString());
+	}
+}
@@ -69,6 +69,25 @@ public class LinkBuilderSupportUnitTest extends TestUtils {
 		assertThat(builder.toString()).endsWith("47:11");
 	}
 
+	@Test
+	public void dropsTrailingSlashOfBaseUriWhenAppending() {
+
+		SampleLinkBuilder builder = new SampleLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost/api/"),
+				Collections.emptyList());
+
+		assertThat(builder.slash("foo").slash("bar").toString()).isEqualTo("http://localhost/api/foo/bar");
+	}
+
+	@Test
+	public void appendsQueryOfPathToExistingOne() {
+
+		SampleLinkBuilder builder = new SampleLinkBuilder(UriComponentsBuilder.fromUriString("http://localhost/api?a=1"),
+				Collections.emptyList());
+
+		assertThat(builder.slash("foo?b=2#bar").toString()).isEqualTo("http://localhost/api/foo?a=1&b=2#bar");
+		assertThat(builder.slash("foo").toString()).isEqualTo("http://localhost/api/foo");
+	}
+
 	static class SampleLinkBuilder extends LinkBuilderSupport<SampleLinkBuilder> {
 
 		public SampleLinkBuilder(UriComponentsBuilder builder, List<Affordance> afforances) {
@@ -18,7 +18,10 @@ package org.springframework.hateoas.hal;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.hateoas.support.MappingUtils.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -79,6 +82,36 @@ public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().supports(MediaTypes.HAL_JSON_UTF8)).isTrue();
 	}
 
+	@Test
+	public void skipsEmbeddedResourcesWhenLookingUpLinks() {
+
+		String source = "{ \"_embedded\" : { \"items\" : [ { \"_links\" : { \"self\" : { \"href\" : \"embedded\" } } } ] }," //
+				+ " \"_links\" : { \"self\" : { \"href\" : \"selfHref\" } } }";
+
+		assertThat(getDiscoverer().findLinksWithRel(IanaLinkRelations.SELF, source)) //
+				.containsExactly(new Link("selfHref"));
+	}
+
+	@Test
+	public void stopsReadingInputStreamOnceLinksHaveBeenConsumed() throws Exception {
+
+		// Trailing content is invalid JSON and would fail the lookup if it was read
+		String source = "{ \"_links\" : { \"self\" : { \"href\" : \"selfHref\" } }, \"_embedded\" : { ]";
+		InputStream stream = new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(getDiscoverer().findLinkWithRel(IanaLinkRelations.SELF, stream)) //
+				.hasValue(new Link("selfHref"));
+	}
+
+	@Test
+	public void discoversLinksGivenAsPlainString() {
+
+		String source = "{ \"_links\" : { \"self\" : \"selfHref\" } }";
+
+		assertThat(getDiscoverer().findLinkWithRel(IanaLinkRelations.SELF, source)) //
+				.hasValue(new Link("selfHref"));
+	}
+
 	@Override
 	protected LinkDiscoverer getDiscoverer() {
 		return discoverer;
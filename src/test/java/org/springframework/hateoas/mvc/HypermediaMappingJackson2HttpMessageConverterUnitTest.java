@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link HypermediaMappingJackson2HttpMessageConverter}.
+ *
+ * @author agent
+ */
+public class HypermediaMappingJackson2HttpMessageConverterUnitTest {
+
+	HypermediaObjectMappers mappers = HypermediaObjectMappers.of(new ObjectMapper());
+	HypermediaMappingJackson2HttpMessageConverter converter;
+
+	{
+		Map<MediaType, ObjectMapper> objectMappers = new LinkedHashMap<>();
+		objectMappers.put(MediaTypes.HAL_JSON, mappers.getObjectMapper(HypermediaType.HAL));
+		objectMappers.put(MediaTypes.UBER_JSON, mappers.getObjectMapper(HypermediaType.UBER));
+
+		converter = new HypermediaMappingJackson2HttpMessageConverter(ResourceSupport.class, objectMappers);
+	}
+
+	@Test
+	public void supportsAllMediaTypesGiven() {
+
+		assertThat(converter.getSupportedMediaTypes()).containsExactly(MediaTypes.HAL_JSON, MediaTypes.UBER_JSON);
+		assertThat(converter.canWrite(ResourceSupport.class, MediaTypes.UBER_JSON)).isTrue();
+		assertThat(converter.canWrite(ResourceSupport.class, MediaType.APPLICATION_JSON)).isFalse();
+		assertThat(converter.canWrite(Object.class, MediaTypes.HAL_JSON)).isFalse();
+	}
+
+	@Test
+	public void writesUsingObjectMapperForContentType() throws Exception {
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("/foo"));
+
+		assertThat(write(resource, MediaTypes.HAL_JSON)).contains("_links");
+		assertThat(write(resource, MediaTypes.UBER_JSON)).contains("uber");
+	}
+
+	@Test
+	public void readsUsingObjectMapperForContentType() throws Exception {
+
+		MockHttpInputMessage message = new MockHttpInputMessage(
+				"{ \"uber\" : { \"version\" : \"1.0\", \"data\" : [ { \"rel\" : [ \"self\" ], \"url\" : \"/foo\" } ] } }"
+						.getBytes(StandardCharsets.UTF_8));
+		message.getHeaders().setContentType(MediaTypes.UBER_JSON);
+
+		ResourceSupport resource = (ResourceSupport) converter.read(ResourceSupport.class, null, message);
+
+		assertThat(resource.getRequiredLink("self").getHref()).isEqualTo("/foo");
+	}
+
+	@Test
+	public void exposesObjectMapperPerMediaType() {
+
+		assertThat(converter.getObjectMapper(MediaTypes.HAL_JSON_UTF8)) //
+				.isSameAs(mappers.getObjectMapper(HypermediaType.HAL));
+		assertThat(converter.getObjectMapper(MediaTypes.UBER_JSON)) //
+				.isSameAs(mappers.getObjectMapper(HypermediaType.UBER));
+	}
+
+	private String write(ResourceSupport resource, MediaType mediaType) throws Exception {
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(resource, ResourceSupport.class, mediaType, message);
+
+		return message.getBodyAsString();
+	}
+}
@@ -19,8 +19,15 @@ import static org.assertj.core.api.Assertions.*;
 import static org.springframework.hateoas.mvc.WebMvcLinkBuilder.*;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -134,6 +141,104 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		assertThat(result).contains(firstResource, secondResource);
 	}
 
+	@Test
+	public void createsResourcesForAllEntitiesInBulk() {
+
+		Person first = new Person();
+		first.id = 1L;
+		Person second = new Person();
+		second.id = 2L;
+
+		List<PersonResource> result = assembler.createResources(Arrays.asList(first, second));
+
+		assertThat(result).extracting(it -> it.getRequiredLink(IanaLinkRelations.SELF).getHref()) //
+				.containsExactly("http://localhost/people/1", "http://localhost/people/2");
+	}
+
+	@Test
+	public void unwrapsIdentifyablesForParametersInBulk() {
+
+		List<Link> links = new PersonResourceAssembler(ParameterizedController.class)
+				.linksToSingleResources(Arrays.asList(1L, "foo bar"), person, "bar");
+
+		assertThat(links).extracting(Link::getHref) //
+				.containsExactly("http://localhost/people/10/bar/addresses/1",
+						"http://localhost/people/10/bar/addresses/foo%20bar");
+	}
+
+	@Test
+	public void assemblesResourcesInParallelRetainingOrder() {
+
+		List<Person> people = IntStream.range(0, 50).mapToObj(Person::new).collect(Collectors.toList());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<PersonResource> result = assembler.map(people) //
+					.withParallelAssembly(executor, 1) //
+					.toListOfResources();
+
+			assertThat(result).extracting(it -> it.getRequiredLink(IanaLinkRelations.SELF).getHref()) //
+					.containsExactlyElementsOf(IntStream.range(0, 50) //
+							.mapToObj(it -> "http://localhost/people/" + it) //
+							.collect(Collectors.toList()));
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void assemblesResourcesSequentiallyBelowParallelismThreshold() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			Resources<PersonResource> result = assembler.map(Arrays.asList(new Person(1L), new Person(2L))) //
+					.withParallelAssembly(executor, 10) //
+					.toResources();
+
+			assertThat(result.getContent()).extracting(it -> it.getRequiredLink(IanaLinkRelations.SELF).getHref()) //
+					.containsExactly("http://localhost/people/1", "http://localhost/people/2");
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void rejectsInvalidParallelAssemblySetup() {
+
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> assembler.map(Collections.emptyList()).withParallelAssembly(null, 1));
+		assertThatIllegalArgumentException() //
+				.isThrownBy(() -> assembler.map(Collections.emptyList()).withParallelAssembly(Runnable::run, 0));
+	}
+
+	@Test
+	public void assemblesResourcesFromStream() {
+
+		Resources<PersonResource> result = assembler.map(Stream.of(new Person(1L), new Person(2L))).toResources();
+
+		assertThat(result.getContent()).extracting(it -> it.getRequiredLink(IanaLinkRelations.SELF).getHref()) //
+				.containsExactly("http://localhost/people/1", "http://localhost/people/2");
+	}
+
+	@Test
+	public void assemblesResourcesLazilyIntoStream() {
+
+		AtomicInteger counter = new AtomicInteger();
+
+		Stream<PersonResource> stream = assembler.map(Arrays.asList(new Person(1L), new Person(2L))) //
+				.toStream() //
+				.peek(__ -> counter.incrementAndGet());
+
+		assertThat(counter.get()).isEqualTo(0);
+		assertThat(stream.findFirst()).isPresent();
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
 	@RequestMapping("/people")
 	static class PersonController {
 
@@ -149,6 +254,12 @@ public class IdentifiableResourceAssemblerSupportUnitTest extends TestUtils {
 		Long id;
 		String alternateId;
 
+		Person() {}
+
+		Person(long id) {
+			this.id = id;
+		}
+
 		@Override
 		public Optional<Long> getId() {
 			return Optional.ofNullable(id);
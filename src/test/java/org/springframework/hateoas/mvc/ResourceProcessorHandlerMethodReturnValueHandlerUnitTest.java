@@ -27,6 +27,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -38,6 +42,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.hateoas.ConcurrentResourceProcessor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.PagedResources.PageMetadata;
@@ -90,6 +95,9 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		doWithMethods(Controller.class, method -> METHOD_PARAMS.put(method.getName(), new MethodParameter(method, -1)));
 	}
 
+	static final ResolvableType RESOURCES_OF_STRING = ResolvableType.forClassWithGenerics(Resources.class,
+			ResolvableType.forClassWithGenerics(Resource.class, String.class));
+
 	@Mock HandlerMethodReturnValueHandler delegate;
 	List<ResourceProcessor<?>> resourceProcessors;
 
@@ -316,6 +324,79 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		invokeReturnValueHandler("wildcardedResources", FOOS, BARS);
 	}
 
+	@Test
+	public void dispatchesCachedProcessorsByContentType() {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(resourceProcessors);
+		ResolvableType type = ResolvableType.forClass(Resource.class);
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(invoker.invokeProcessorsFor(FOO, type)).isEqualTo(BAR);
+			assertThat(invoker.invokeProcessorsFor(LONG_10, type)).isEqualTo(LONG_20);
+		}
+	}
+
+	@Test
+	public void processesElementsInParallelForThreadSafeProcessors() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			ThreadRecordingProcessor processor = new ThreadRecordingProcessor();
+			resourceProcessors.add(processor);
+
+			ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(resourceProcessors) //
+					.withParallelProcessing(executor, 2);
+
+			assertThat(invoker.invokeProcessorsFor(createResources("a", "b", "c", "d"), RESOURCES_OF_STRING) //
+					.getContent()) //
+							.extracting(Resource::getContent) //
+							.containsExactly("A", "B", "C", "D");
+			assertThat(processor.threads).doesNotContain(Thread.currentThread());
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void processesElementsSequentiallyForProcessorsNotDeclaredThreadSafe() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			ThreadRecordingProcessor processor = new ThreadRecordingProcessor();
+			resourceProcessors.add(processor);
+			resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+			ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(resourceProcessors) //
+					.withParallelProcessing(executor, 2);
+
+			assertThat(invoker.invokeProcessorsFor(createResources("a", "b"), RESOURCES_OF_STRING).getContent()) //
+					.containsExactly(BAR, BAR);
+			assertThat(processor.threads).containsOnly(Thread.currentThread());
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static Resources<Resource<String>> createResources(String... values) {
+
+		List<Resource<String>> content = new ArrayList<>();
+
+		for (String value : values) {
+			content.add(new Resource<>(value));
+		}
+
+		return new Resources<>(content);
+	}
+
 	private void invokeReturnValueHandler(String method, Object returnValue, Object expected) throws Exception {
 
 		MethodParameter methodParam = METHOD_PARAMS.get(method);
@@ -387,6 +468,20 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		}
 	}
 
+	@ConcurrentResourceProcessor
+	static class ThreadRecordingProcessor implements ResourceProcessor<Resource<String>> {
+
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+
+			threads.add(Thread.currentThread());
+
+			return new Resource<>(resource.getContent().toUpperCase());
+		}
+	}
+
 	interface Controller {
 
 		Resources<Resource<String>> resources();
@@ -18,10 +18,17 @@ package org.springframework.hateoas.mvc;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.http.MediaType.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
 import org.junit.Test;
+import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * Unit tests for {@link TypeConstrainedMappingJackson2HttpMessageConverter}.
@@ -66,6 +73,40 @@ public class TypeConstrainedMappingJackson2HttpMessageConverterUnitTest {
 		assertCanWrite(converter, Resource.class, true);
 	}
 
+	@Test
+	public void reevaluatesCachedDecisionsIfSupportedMediaTypesChange() {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+				ResourceSupport.class);
+
+		assertCanWrite(converter, ResourceSupport.class, true);
+
+		converter.setSupportedMediaTypes(Collections.singletonList(MediaTypes.HAL_JSON));
+
+		assertCanWrite(converter, ResourceSupport.class, false);
+	}
+
+	@Test
+	public void reusesCachedDecisionForMediaTypeParameterVariants() {
+
+		TypeConstrainedMappingJackson2HttpMessageConverter converter = new TypeConstrainedMappingJackson2HttpMessageConverter(
+				ResourceSupport.class);
+
+		for (int i = 0; i < 10; i++) {
+
+			MediaType mediaType = new MediaType(APPLICATION_JSON, Collections.singletonMap("foo", String.valueOf(i)));
+
+			assertThat(converter.canRead(ResourceSupport.class, mediaType)).isTrue();
+			assertThat(converter.canWrite(ResourceSupport.class, mediaType)).isTrue();
+		}
+
+		assertThat(converter.canWrite(ResourceSupport.class, new MediaType(APPLICATION_JSON, StandardCharsets.UTF_8)))
+				.isTrue();
+
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(converter, "readDecisions")).hasSize(1);
+		assertThat((Map<?, ?>) ReflectionTestUtils.getField(converter, "writeDecisions")).hasSize(2);
+	}
+
 	private static void assertCanRead(GenericHttpMessageConverter<Object> converter, Class<?> type, boolean expected) {
 
 		assertThat(converter.canRead(type, APPLICATION_JSON)).isEqualTo(expected);
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.hateoas.TestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriComponents;
+
+/**
+ * Unit tests for {@link UriComponentsBuilderFactory}.
+ *
+ * @author agent
+ */
+public class UriComponentsBuilderFactoryUnitTest extends TestUtils {
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void sharesBaseUriAcrossRequestsWithSameOrigin() {
+
+		UriComponents first = UriComponentsBuilderFactory.getComponents();
+
+		setUp();
+
+		assertThat(UriComponentsBuilderFactory.getComponents()).isSameAs(first);
+		assertThat(UriComponentsBuilderFactory.getBuilder().path("/foo").build().toUriString()) //
+				.isEqualTo("http://localhost/foo");
+	}
+
+	@Test
+	public void doesNotShareBaseUriAcrossRequestsWithDifferentForwardedHeaders() {
+
+		assertThat(UriComponentsBuilderFactory.getComponents().getHost()).isEqualTo("localhost");
+
+		setUp();
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+		adaptRequestFromForwardedHeaders();
+
+		assertThat(UriComponentsBuilderFactory.getComponents().getHost()).isEqualTo("somethingDifferent");
+	}
+
+	@Test
+	public void considersContextPathOfRequest() {
+
+		request.setContextPath("/context");
+
+		assertThat(UriComponentsBuilderFactory.getComponents().toUriString()).isEqualTo("http://localhost/context");
+	}
+
+	@Test
+	public void keepsCachingNewBaseUrisOnceCacheIsFull() {
+
+		UriComponents recentlyUsed = getComponentsForHost("recently-used");
+		UriComponents evicted = getComponentsForHost("evicted");
+
+		for (int i = 0; i < 300; i++) {
+
+			getComponentsForHost("host" + i);
+
+			if (i % 100 == 0) {
+				assertThat(getComponentsForHost("recently-used")).isSameAs(recentlyUsed);
+			}
+		}
+
+		UriComponents fresh = getComponentsForHost("fresh");
+
+		assertThat(getComponentsForHost("fresh")).isSameAs(fresh);
+		assertThat(getComponentsForHost("recently-used")).isSameAs(recentlyUsed);
+		assertThat(getComponentsForHost("evicted")).isNotSameAs(evicted);
+	}
+
+	private UriComponents getComponentsForHost(String host) {
+
+		setUp();
+		request.setServerName(host);
+
+		return UriComponentsBuilderFactory.getComponents();
+	}
+}
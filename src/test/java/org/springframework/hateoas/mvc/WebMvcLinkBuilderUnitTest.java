@@ -68,6 +68,19 @@ public class WebMvcLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/people");
 	}
 
+	@Test
+	public void reusesExpandedControllerMappingAcrossRequests() {
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref()).isEqualTo("http://localhost/people");
+
+		setUp();
+		request.addHeader("X-Forwarded-Host", "somethingDifferent");
+		adaptRequestFromForwardedHeaders();
+
+		assertThat(linkTo(PersonControllerImpl.class).withSelfRel().getHref())
+				.isEqualTo("http://somethingDifferent/people");
+	}
+
 	@Test
 	public void createsLinkToParameterizedControllerRoot() {
 
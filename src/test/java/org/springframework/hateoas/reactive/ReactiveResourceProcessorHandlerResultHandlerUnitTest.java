@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Resource;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Unit tests for {@link ReactiveResourceProcessorHandlerResultHandler}.
+ *
+ * @author agent
+ */
+public class ReactiveResourceProcessorHandlerResultHandlerUnitTest {
+
+	@Test
+	public void processesFluxElementsWithConcurrencyOfInvoker() throws Exception {
+
+		CountingProcessor processor = new CountingProcessor();
+		ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+				Collections.singletonList(processor), 1);
+
+		HandlerResultHandler handler = new ReactiveResourceProcessorHandlerResultHandler(new SubscribingHandler(),
+				invoker);
+
+		Flux<Resource<String>> value = Flux.just("a", "b", "c", "d").map(Resource::new);
+		MethodParameter returnType = new MethodParameter(Sample.class.getMethod("resources"), -1);
+
+		handler.handleResult(MockServerWebExchange.from(MockServerHttpRequest.get("/")),
+				new HandlerResult(new Sample(), value, returnType)).block(Duration.ofSeconds(5));
+
+		assertThat(invoker.getConcurrency()).isEqualTo(1);
+		assertThat(processor.invocations.get()).isEqualTo(4);
+		assertThat(processor.maxInFlight.get()).isEqualTo(1);
+	}
+
+	static class Sample {
+
+		public Flux<Resource<String>> resources() {
+			return Flux.empty();
+		}
+	}
+
+	static class CountingProcessor implements ReactiveResourceProcessor<Resource<String>> {
+
+		AtomicInteger invocations = new AtomicInteger();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		@Override
+		public Mono<Resource<String>> process(Resource<String> resource) {
+
+			return Mono.defer(() -> {
+
+				invocations.incrementAndGet();
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+				return Mono.just(resource) //
+						.delayElement(Duration.ofMillis(10)) //
+						.doOnTerminate(inFlight::decrementAndGet);
+			});
+		}
+	}
+
+	static class SubscribingHandler implements HandlerResultHandler {
+
+		@Override
+		public boolean supports(HandlerResult result) {
+			return true;
+		}
+
+		@Override
+		public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+			return ((Flux<?>) result.getReturnValue()).then();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+
+/**
+ * Unit tests for {@link ReactiveResourceProcessorInvoker}.
+ *
+ * @author agent
+ */
+public class ReactiveResourceProcessorInvokerUnitTest {
+
+	static final ResolvableType RESOURCE_OF_STRING = ResolvableType.forClassWithGenerics(Resource.class, String.class);
+	static final ResolvableType RESOURCES_OF_STRING = ResolvableType.forClassWithGenerics(Resources.class,
+			RESOURCE_OF_STRING);
+
+	@Test
+	public void invokesProcessorsMatchingTheContentTypeInOrder() {
+
+		ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+				Arrays.asList(new SecondStringProcessor(), new FirstStringProcessor(), new LongProcessor()));
+
+		invoker.invokeProcessorsFor(new Resource<>("foo"), RESOURCE_OF_STRING) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> {
+
+					assertThat(it.getLinks()).extracting(Link::getRel) //
+							.extracting(Object::toString) //
+							.containsExactly("first", "second");
+
+					return true;
+				}).verifyComplete();
+	}
+
+	@Test
+	public void processesElementsOfResourcesRetainingTheirOrder() {
+
+		ReactiveResourceProcessorInvoker invoker = new ReactiveResourceProcessorInvoker(
+				Arrays.asList(new DelayingProcessor()), 4);
+
+		List<Resource<String>> content = Arrays.asList(new Resource<>("a"), new Resource<>("b"), new Resource<>("c"));
+
+		invoker.invokeProcessorsFor(new Resources<>(content), RESOURCES_OF_STRING) //
+				.as(StepVerifier::create) //
+				.expectNextMatches(it -> {
+
+					assertThat(it.getContent()).extracting(Resource::getContent).containsExactly("a", "b", "c");
+					assertThat(it.getContent()).allMatch(resource -> resource.hasLink("delayed"));
+
+					return true;
+				}).verifyComplete();
+	}
+
+	@Test
+	public void exposesWhetherProcessorsAreRegistered() {
+
+		assertThat(new ReactiveResourceProcessorInvoker(Arrays.asList()).hasProcessors()).isFalse();
+		assertThat(new ReactiveResourceProcessorInvoker(Arrays.asList(new LongProcessor())).hasProcessors()).isTrue();
+	}
+
+	@Order(1)
+	static class FirstStringProcessor implements ReactiveResourceProcessor<Resource<String>> {
+
+		@Override
+		public Mono<Resource<String>> process(Resource<String> resource) {
+
+			resource.add(new Link("/first", "first"));
+
+			return Mono.just(resource);
+		}
+	}
+
+	@Order(2)
+	static class SecondStringProcessor implements ReactiveResourceProcessor<Resource<String>> {
+
+		@Override
+		public Mono<Resource<String>> process(Resource<String> resource) {
+
+			return Mono.fromCallable(() -> {
+
+				resource.add(new Link("/second", "second"));
+
+				return resource;
+
+			}).subscribeOn(Schedulers.parallel());
+		}
+	}
+
+	static class LongProcessor implements ReactiveResourceProcessor<Resource<Long>> {
+
+		@Override
+		public Mono<Resource<Long>> process(Resource<Long> resource) {
+
+			resource.add(new Link("/long", "long"));
+
+			return Mono.just(resource);
+		}
+	}
+
+	static class DelayingProcessor implements ReactiveResourceProcessor<Resource<String>> {
+
+		@Override
+		public Mono<Resource<String>> process(Resource<String> resource) {
+
+			resource.add(new Link("/delayed", "delayed"));
+
+			// Complete earlier elements last
+			long delay = 'd' - resource.getContent().charAt(0);
+
+			return Mono.just(resource).delayElement(Duration.ofMillis(delay * 20));
+		}
+	}
+}
@@ -19,10 +19,13 @@ import static org.assertj.core.api.Assertions.*;
 
 import lombok.Data;
 
+import java.time.Duration;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
@@ -38,6 +41,8 @@ public class SimpleReactiveResourceAssemblerTest {
 
 	ResourceAssemblerWithCustomLinkSimple resourceAssemblerWithCustomLink;
 
+	ResourceAssemblerWithDelay resourceAssemblerWithDelay;
+
 	@Mock ServerWebExchange exchange;
 	
 	@Before
@@ -45,6 +50,7 @@ public class SimpleReactiveResourceAssemblerTest {
 
 		this.testResourceAssembler = new TestResourceAssemblerSimple();
 		this.resourceAssemblerWithCustomLink = new ResourceAssemblerWithCustomLinkSimple();
+		this.resourceAssemblerWithDelay = new ResourceAssemblerWithDelay();
 	}
 
 	/**
@@ -118,6 +124,48 @@ public class SimpleReactiveResourceAssemblerTest {
 			.verifyComplete();
 	}
 
+	@Test
+	public void convertingToResourcesRetainsOrder() {
+
+		this.resourceAssemblerWithDelay.toResources(Flux.just(new Employee("Frodo"), new Employee("Sam")), this.exchange)
+			.as(StepVerifier::create)
+			.expectNextMatches(resources -> {
+
+				assertThat(resources.getContent()).extracting(Resource::getContent)
+					.containsExactly(new Employee("Frodo"), new Employee("Sam"));
+
+				return true;
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	public void convertingToStreamingResourcesShouldWork() {
+
+		StreamingResources<Resource<Employee>> resources = this.resourceAssemblerWithCustomLink
+			.toStreamingResources(Flux.just(new Employee("Frodo"), new Employee("Sam")), this.exchange);
+
+		assertThat(resources.getLinks()).containsExactly(new Link("/", "root"));
+
+		resources.getContent()
+			.map(Resource::getContent)
+			.as(StepVerifier::create)
+			.expectNext(new Employee("Frodo"), new Employee("Sam"))
+			.verifyComplete();
+	}
+
+	@Test
+	public void convertingToStreamingResourcesRetainsOrderWhenConvertingConcurrently() {
+
+		this.resourceAssemblerWithDelay
+			.toStreamingResources(Flux.just(new Employee("Frodo"), new Employee("Sam")), this.exchange, 2, 1)
+			.getContent()
+			.map(Resource::getContent)
+			.as(StepVerifier::create)
+			.expectNext(new Employee("Frodo"), new Employee("Sam"))
+			.verifyComplete();
+	}
+
 	class TestResourceAssemblerSimple implements SimpleReactiveResourceAssembler<Employee> {
 
 		@Override
@@ -142,6 +190,18 @@ public class SimpleReactiveResourceAssemblerTest {
 		}
 	}
 
+	class ResourceAssemblerWithDelay extends TestResourceAssemblerSimple {
+
+		@Override
+		public Mono<Resource<Employee>> toResource(Employee entity, ServerWebExchange exchange) {
+
+			// Convert the first employee last
+			Duration delay = Duration.ofMillis(entity.getName().equals("Frodo") ? 100 : 0);
+
+			return super.toResource(entity, exchange).delayElement(delay);
+		}
+	}
+
 	@Data
 	class Employee {
 
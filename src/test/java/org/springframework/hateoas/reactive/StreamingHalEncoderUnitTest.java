@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.hateoas.config.HypermediaObjectMappers;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link StreamingHalEncoder}.
+ *
+ * @author agent
+ */
+public class StreamingHalEncoderUnitTest {
+
+	static final ResolvableType RESOURCE_TYPE = ResolvableType.forClassWithGenerics(Resource.class, String.class);
+	static final ResolvableType STREAMING_RESOURCES_TYPE = ResolvableType.forClassWithGenerics(StreamingResources.class,
+			RESOURCE_TYPE);
+
+	ObjectMapper mapper = HypermediaObjectMappers.of(new ObjectMapper()).getObjectMapper(HypermediaType.HAL);
+	StreamingHalEncoder encoder = new StreamingHalEncoder(mapper);
+
+	@Test
+	public void rendersStreamingResourcesLikeResources() throws Exception {
+
+		StreamingResources<Resource<String>> resources = new StreamingResources<>(
+				Flux.just(new Resource<>("first"), new Resource<>("second")), new Link("/foo"));
+
+		String result = encode(Mono.just(resources), STREAMING_RESOURCES_TYPE, MediaTypes.HAL_JSON);
+
+		assertThat(result).startsWith("{\"_links\"");
+		assertThat(mapper.readTree(result)).isEqualTo(mapper.valueToTree(
+				new Resources<>(Arrays.asList(new Resource<>("first"), new Resource<>("second")), new Link("/foo"))));
+	}
+
+	@Test
+	public void rendersLinksAfterEmbeddedElementsIfConfigured() throws Exception {
+
+		encoder.setRenderLinksFirst(false);
+
+		StreamingResources<Resource<String>> resources = new StreamingResources<>(Flux.just(new Resource<>("first")),
+				new Link("/foo"));
+
+		String result = encode(Mono.just(resources), STREAMING_RESOURCES_TYPE, MediaTypes.HAL_JSON);
+
+		assertThat(result).startsWith("{\"_embedded\"");
+		assertThat(mapper.readTree(result)).isEqualTo(
+				mapper.valueToTree(new Resources<>(Collections.singletonList(new Resource<>("first")), new Link("/foo"))));
+	}
+
+	@Test
+	public void rendersEmptyStreamingResources() throws Exception {
+
+		StreamingResources<Resource<String>> resources = new StreamingResources<>(Flux.empty(), new Link("/foo"));
+
+		String result = encode(Mono.just(resources), STREAMING_RESOURCES_TYPE, MediaTypes.HAL_JSON);
+
+		assertThat(mapper.readTree(result))
+				.isEqualTo(mapper.valueToTree(new Resources<>(Collections.emptyList(), new Link("/foo"))));
+	}
+
+	@Test
+	public void rendersFluxOfResourcesAsHalDocument() throws Exception {
+
+		String result = encode(Flux.just(new Resource<>("first"), new Resource<>("second")), RESOURCE_TYPE,
+				MediaTypes.HAL_JSON);
+
+		assertThat(mapper.readTree(result)).isEqualTo(
+				mapper.valueToTree(new Resources<>(Arrays.asList(new Resource<>("first"), new Resource<>("second")))));
+	}
+
+	@Test
+	public void rendersSingleResourceAsIs() throws Exception {
+
+		String result = encode(Mono.just(new Resource<>("first", new Link("/foo"))), RESOURCE_TYPE, MediaTypes.HAL_JSON);
+
+		assertThat(result).isEqualTo(mapper.writeValueAsString(new Resource<>("first", new Link("/foo"))));
+	}
+
+	@Test
+	public void rendersElementsAsNewlineDelimitedHalDocuments() throws Exception {
+
+		String result = encode(Flux.just(new Resource<>("first"), new Resource<>("second")), RESOURCE_TYPE,
+				StreamingHalEncoder.NDJSON);
+
+		assertThat(result.split("\n")).containsExactly(mapper.writeValueAsString(new Resource<>("first")),
+				mapper.writeValueAsString(new Resource<>("second")));
+	}
+
+	@Test
+	public void onlyRendersResourcesAsNewlineDelimitedJson() {
+
+		assertThat(encoder.canEncode(RESOURCE_TYPE, StreamingHalEncoder.NDJSON)).isTrue();
+		assertThat(encoder.canEncode(ResolvableType.forClass(String.class), StreamingHalEncoder.NDJSON)).isFalse();
+		assertThat(encoder.canEncode(STREAMING_RESOURCES_TYPE, MediaTypes.HAL_JSON)).isTrue();
+	}
+
+	@Test
+	public void collectsElementsIntoChunksOfConfiguredSize() {
+
+		encoder.setChunkSize(1024);
+
+		List<DataBuffer> buffers = encoder.encode(Flux.just(new Resource<>("first"), new Resource<>("second")),
+				new DefaultDataBufferFactory(), RESOURCE_TYPE, MediaTypes.HAL_JSON, Collections.emptyMap()) //
+				.collectList().block();
+
+		assertThat(buffers).hasSize(1);
+	}
+
+	private String encode(Publisher<?> source, ResolvableType type, MimeType mimeType) {
+
+		return encoder.encode(source, new DefaultDataBufferFactory(), type, mimeType, Collections.emptyMap()) //
+				.map(it -> {
+
+					String result = StandardCharsets.UTF_8.decode(it.asByteBuffer()).toString();
+					DataBufferUtils.release(it);
+
+					return result;
+
+				}).collectList() //
+				.map(it -> String.join("", it)) //
+				.block();
+	}
+}
@@ -19,7 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.hateoas.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.hateoas.reactive.HypermediaWebFilter.*;
-import static org.springframework.hateoas.reactive.WebFluxLinkBuilder.linkTo;
+import static org.springframework.hateoas.reactive.WebFluxLinkBuilder.*;
 
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -27,12 +27,16 @@ import reactor.util.context.Context;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -239,6 +243,59 @@ public class WebFluxLinkBuilderTest {
 
 	}
 
+	@Test
+	public void parsesRequestOnlyOncePerExchange() throws URISyntaxException {
+
+		when(this.exchange.getRequest()).thenReturn(this.request);
+		when(this.exchange.getAttributes()).thenReturn(new ConcurrentHashMap<>());
+		when(this.request.getURI()).thenReturn(new URI("http://localhost:8080/api"));
+		when(this.request.getHeaders()).thenReturn(new HttpHeaders());
+
+		Link first = builderFor(methodOn(TestController.class).root(), this.exchange).withSelfRel();
+		Link second = builderFor(methodOn(TestController.class).deep(), this.exchange).withRel("employees");
+
+		assertThat(first.getHref()).isEqualTo("http://localhost:8080/api");
+		assertThat(second.getHref()).isEqualTo("http://localhost:8080/api/employees");
+		assertThat(this.exchange.getAttributes()).containsKey(BASE_URI_COMPONENTS);
+
+		verify(this.request, times(1)).getURI();
+	}
+
+	@Test
+	public void createsMultipleLinksWithinSingleMono() throws URISyntaxException {
+
+		when(this.exchange.getRequest()).thenReturn(this.request);
+		when(this.exchange.getAttributes()).thenReturn(new ConcurrentHashMap<>());
+		when(this.request.getURI()).thenReturn(new URI("http://localhost:8080/api"));
+		when(this.request.getHeaders()).thenReturn(new HttpHeaders());
+
+		linksTo(it -> Arrays.asList( //
+				it.linkTo(methodOn(TestController.class).root()).withSelfRel(), //
+				it.linkTo(methodOn(TestController.class).deep()).withRel("employees"))) //
+						.subscriberContext(Context.of(SERVER_WEB_EXCHANGE, this.exchange)) //
+						.as(StepVerifier::create) //
+						.expectNextMatches(links -> {
+
+							assertThat(links).extracting(Link::getHref) //
+									.containsExactly("http://localhost:8080/api", "http://localhost:8080/api/employees");
+							assertThat(links).extracting(Link::getRel) //
+									.containsExactly(IanaLinkRelations.SELF, LinkRelation.of("employees"));
+
+							return true;
+
+						}).verifyComplete();
+	}
+
+	@Test
+	public void createsRelativeLinksWithinSingleMonoWithoutExchange() {
+
+		linksTo(it -> it.linkTo(methodOn(TestController.class).deep()).withSelfRel()) //
+				.map(Link::getHref) //
+				.as(StepVerifier::create) //
+				.expectNext("/api/employees") //
+				.verifyComplete();
+	}
+
 	@RestController
 	@RequestMapping("/api")
 	static class TestController {
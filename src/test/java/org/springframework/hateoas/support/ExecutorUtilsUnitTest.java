@@ -0,0 +1,217 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ExecutorUtils}.
+ *
+ * @author agent
+ */
+public class ExecutorUtilsUnitTest {
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void returnsResultsInOrderOfTasks() {
+
+		List<Supplier<String>> tasks = Arrays.asList(() -> sleepAndReturn(50, "first"), () -> "second");
+
+		assertThat(ExecutorUtils.invokeAll(tasks, executor, "tasks")).containsExactly("first", "second");
+	}
+
+	@Test
+	public void rethrowsRuntimeExceptionsAsIs() {
+
+		IllegalArgumentException exception = new IllegalArgumentException();
+		List<Supplier<String>> tasks = Arrays.asList(() -> "first", () -> {
+			throw exception;
+		});
+
+		assertThatThrownBy(() -> ExecutorUtils.invokeAll(tasks, executor, "tasks")).isSameAs(exception);
+	}
+
+	@Test
+	public void wrapsCheckedExceptions() {
+
+		List<Supplier<String>> tasks = Arrays.asList(() -> sneakyThrow(new IOException("Boom!")));
+
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> ExecutorUtils.invokeAll(tasks, executor, "tasks")) //
+				.withCauseInstanceOf(IOException.class);
+	}
+
+	@Test
+	public void skipsTasksNotStartedYetOnFailure() throws Exception {
+
+		List<Runnable> submitted = new ArrayList<>();
+		AtomicBoolean invoked = new AtomicBoolean();
+
+		List<Supplier<String>> tasks = Arrays.asList(() -> {
+			throw new IllegalArgumentException();
+		}, () -> {
+			invoked.set(true);
+			return "second";
+		});
+
+		// Runs the first task right away and the second one once the caller has seen the failure
+		Thread worker = new Thread(() -> {
+			submitted.get(0).run();
+			sleepAndReturn(200, null);
+			submitted.get(1).run();
+		});
+
+		assertThatIllegalArgumentException().isThrownBy(() -> ExecutorUtils.invokeAll(tasks, runnable -> {
+
+			submitted.add(runnable);
+
+			if (submitted.size() == tasks.size()) {
+				worker.start();
+			}
+
+		}, "tasks"));
+
+		worker.join();
+
+		assertThat(invoked).isFalse();
+	}
+
+	@Test
+	public void throwsConfiguredExceptionOnTimeout() {
+
+		CountDownLatch release = new CountDownLatch(1);
+		List<Supplier<String>> tasks = Arrays.asList(() -> await(release, "first"));
+
+		try {
+
+			assertThatIllegalStateException() //
+					.isThrownBy(() -> ExecutorUtils.invokeAll(tasks, executor, Duration.ofMillis(50),
+							() -> new IllegalStateException("Timeout!"), "tasks")) //
+					.withMessage("Timeout!");
+
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void timesOutTasksWaitingForTheExecutor() {
+
+		List<Supplier<String>> tasks = Arrays.asList(() -> "first");
+
+		// Executor never getting to run the task
+		assertThatIllegalStateException() //
+				.isThrownBy(() -> ExecutorUtils.invokeAll(tasks, runnable -> {}, Duration.ofMillis(50),
+						() -> new IllegalStateException("Timeout!"), "tasks")) //
+				.withMessage("Timeout!");
+	}
+
+	@Test
+	public void skipsSubmittedTasksIfExecutorRejectsTask() {
+
+		List<Runnable> submitted = new ArrayList<>();
+		AtomicBoolean invoked = new AtomicBoolean();
+
+		List<Supplier<String>> tasks = Arrays.asList(() -> {
+			invoked.set(true);
+			return "first";
+		}, () -> "second");
+
+		assertThatExceptionOfType(RejectedExecutionException.class) //
+				.isThrownBy(() -> ExecutorUtils.invokeAll(tasks, runnable -> {
+
+					if (!submitted.isEmpty()) {
+						throw new RejectedExecutionException();
+					}
+
+					submitted.add(runnable);
+
+				}, "tasks"));
+
+		submitted.get(0).run();
+
+		assertThat(invoked).isFalse();
+	}
+
+	@Test
+	public void restoresInterruptFlagWhenInterrupted() {
+
+		List<Supplier<String>> tasks = Arrays.asList(() -> sleepAndReturn(500, "first"));
+
+		Thread.currentThread().interrupt();
+
+		try {
+
+			assertThatIllegalStateException() //
+					.isThrownBy(() -> ExecutorUtils.invokeAll(tasks, executor, "tasks")) //
+					.withMessage("Interrupted while waiting for tasks to complete!");
+
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	private static String sleepAndReturn(long millis, String value) {
+
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+
+		return value;
+	}
+
+	private static String await(CountDownLatch latch, String value) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T, E extends Throwable> T sneakyThrow(Throwable exception) throws E {
+		throw (E) exception;
+	}
+}